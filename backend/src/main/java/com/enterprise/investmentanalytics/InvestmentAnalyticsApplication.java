@@ -2,14 +2,20 @@ package com.enterprise.investmentanalytics;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
 public class InvestmentAnalyticsApplication {
 
+	// Startup steps kept for StartupTimelineService; a typical boot records a few thousand
+	public static final int STARTUP_STEP_CAPACITY = 10000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(InvestmentAnalyticsApplication.class, args);
+		SpringApplication application = new SpringApplication(InvestmentAnalyticsApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
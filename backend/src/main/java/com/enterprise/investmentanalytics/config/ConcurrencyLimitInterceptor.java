@@ -0,0 +1,73 @@
+package com.enterprise.investmentanalytics.config;
+
+import com.enterprise.investmentanalytics.exception.TooManyRequestsException;
+import com.enterprise.investmentanalytics.service.LoadSheddingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Admits or sheds requests to @ConcurrencyLimited endpoints. The permit is
+ * held until the request completes, through the async dispatch of streaming
+ * responses, and its latency feeds the limiter.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    private static final String STARTED = ConcurrencyLimitInterceptor.class.getName() + ".started";
+
+    private final LoadSheddingService loadSheddingService;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        // An async dispatch already holds the permit of its initial dispatch
+        if (request.getAttribute(PERMIT) != null || !loadSheddingService.isEnabled()) {
+            return true;
+        }
+        ConcurrencyLimited limited = limit(handler);
+        if (limited == null) {
+            return true;
+        }
+        LoadSheddingService.Limiter permit = loadSheddingService.tryAcquire(limited.value());
+        if (permit == null) {
+            long retryAfter = loadSheddingService.retryAfterSeconds(limited.value());
+            log.warn("Shed {} {}: {} is at its concurrency limit", request.getMethod(),
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), limited.value());
+            throw new TooManyRequestsException("Server is busy, retry in " + retryAfter + " s", retryAfter);
+        }
+        request.setAttribute(PERMIT, permit);
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT);
+        if (permit instanceof LoadSheddingService.Limiter limiter) {
+            request.removeAttribute(PERMIT);
+            long latencyMs = (System.nanoTime() - (Long) request.getAttribute(STARTED)) / 1_000_000;
+            limiter.release(latencyMs);
+        }
+    }
+
+    private ConcurrencyLimited limit(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        ConcurrencyLimited limited = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        return limited != null ? limited
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), ConcurrencyLimited.class);
+    }
+}
@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a heavy, low-priority endpoint whose in-flight requests are capped by
+ * the named adaptive limiter (see ConcurrencyLimitInterceptor); requests over
+ * the limit are rejected with 429. Endpoints without it, logins and client
+ * dashboards among them, are never shed.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimited {
+
+    // Limiter name, configured under app.load-shedding.limiters.{name}
+    String value();
+}
@@ -0,0 +1,80 @@
+package com.enterprise.investmentanalytics.config;
+
+import com.enterprise.investmentanalytics.jfr.JsonSerializationEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * The JSON converter used for response bodies, emitting a
+ * JsonSerializationEvent (type, bytes, duration) for each body written while
+ * a JFR recording is running. Being a MappingJackson2HttpMessageConverter
+ * bean, it replaces Spring Boot's default one and keeps its ObjectMapper.
+ */
+@Component
+public class JsonSerializationTimingConverter extends MappingJackson2HttpMessageConverter {
+
+    public JsonSerializationTimingConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        CountingOutputStream body = new CountingOutputStream(outputMessage.getBody());
+        event.type = object.getClass().getName();
+        event.begin();
+        try {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                @NonNull
+                public OutputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                @NonNull
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+        } finally {
+            event.bytes = body.count;
+            event.commit();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
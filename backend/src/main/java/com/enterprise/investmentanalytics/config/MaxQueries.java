@@ -0,0 +1,19 @@
+package com.enterprise.investmentanalytics.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * SQL statement budget of an endpoint (or of every endpoint of a controller),
+ * checked by SqlStatementBudgetFilter. Endpoints without it get
+ * app.sql-budget.default-max.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MaxQueries {
+    int value();
+}
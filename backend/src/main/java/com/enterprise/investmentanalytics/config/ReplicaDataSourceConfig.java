@@ -0,0 +1,77 @@
+package com.enterprise.investmentanalytics.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Primary/replica data source pair, enabled with app.datasource.replica.enabled.
+ * The primary side is the per-workload pool set of WorkloadPoolsConfig; the
+ * replica is configured under app.datasource.replica with the spring.datasource
+ * keys. Locally the replica can be a second, independent MySQL instance with
+ * lag-check-enabled set to false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaDataSourceConfig {
+
+    private final Environment environment;
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaPool() {
+        DataSourceProperties properties = Binder.get(environment)
+                .bind("app.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("app.datasource.replica is not configured"));
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("replica");
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaPool") HikariDataSource replicaPool,
+            @Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${app.datasource.replica.lag-check-enabled:true}") boolean lagCheckEnabled) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPool, maxLagSeconds, lagCheckEnabled);
+        monitor.check(); // Reads stay on the primary until the replica was seen healthy
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            WorkloadRoutingDataSource workloadRoutingDataSource,
+            @Qualifier("replicaPool") HikariDataSource replicaPool,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${app.datasource.replica.read-your-writes-seconds:10}") long readYourWritesSeconds) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor,
+                readYourWritesSeconds * 1000);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, workloadRoutingDataSource,
+                ReplicaRoutingDataSource.REPLICA, replicaPool));
+        routing.setDefaultTargetDataSource(workloadRoutingDataSource);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    // Defers the real connection to the first statement, after the transaction's read-only flag is bound
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
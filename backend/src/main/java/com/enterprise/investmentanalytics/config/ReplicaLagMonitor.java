@@ -0,0 +1,77 @@
+package com.enterprise.investmentanalytics.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Polls the replica and decides whether it may serve reads. The replica is
+ * healthy while it answers and replication is running no further behind than
+ * the configured limit. With the lag check disabled (two independent local
+ * instances) only reachability is checked.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final long maxLagSeconds;
+    private final boolean lagCheckEnabled;
+
+    private volatile boolean healthy;
+    private volatile Long lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean lagCheckEnabled) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagCheckEnabled = lagCheckEnabled;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:2000}")
+    public void check() {
+        boolean wasHealthy = healthy;
+        try {
+            if (lagCheckEnabled) {
+                lastLagSeconds = readLagSeconds();
+                healthy = lastLagSeconds != null && lastLagSeconds <= maxLagSeconds;
+            } else {
+                replica.queryForObject("SELECT 1", Integer.class);
+                lastLagSeconds = null;
+                healthy = true;
+            }
+        } catch (Exception e) {
+            lastLagSeconds = null;
+            healthy = false;
+            if (wasHealthy) {
+                log.warn("Replica check failed: {}", e.getMessage());
+            }
+        }
+
+        if (wasHealthy != healthy) {
+            log.info("Replica {} for reads (lag: {} s, limit: {} s)",
+                    healthy ? "enabled" : "disabled", lastLagSeconds, maxLagSeconds);
+        }
+    }
+
+    // Null while replication is stopped, broken or not configured on this server
+    private Long readLagSeconds() {
+        List<Map<String, Object>> rows = replica.queryForList("SHOW REPLICA STATUS");
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object lag = rows.get(0).get("Seconds_Behind_Source");
+        return lag instanceof Number ? ((Number) lag).longValue() : null;
+    }
+}
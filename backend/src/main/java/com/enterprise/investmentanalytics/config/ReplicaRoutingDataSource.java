@@ -0,0 +1,82 @@
+package com.enterprise.investmentanalytics.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything
+ * else to the primary. A read stays on the primary while the replica is
+ * lagging or unreachable, and for a short window after the same caller ran a
+ * read-write transaction so clients always see their own writes. Connections
+ * taken outside any transaction go to the primary but do not open that
+ * window. The window is kept per authenticated user of an HTTP request;
+ * anonymous requests and background threads (schedulers, executors) have no
+ * caller to key it by and are routed on the read-only flag alone.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the routing decision needs
+ * the read-only flag, which is only bound once the transaction has begun.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesMillis;
+    private final Map<String, Long> lastWriteByCaller = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, long readYourWritesMillis) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesMillis = readYourWritesMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String caller = currentCaller();
+        long now = System.currentTimeMillis();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Only a read-write transaction is a write; non-transactional access stays on the primary unmarked
+            if (caller != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                lastWriteByCaller.put(caller, now);
+            }
+            return PRIMARY;
+        }
+        if (!lagMonitor.isHealthy()) {
+            return PRIMARY;
+        }
+        Long lastWrite = caller != null ? lastWriteByCaller.get(caller) : null;
+        if (lastWrite != null && now - lastWrite < readYourWritesMillis) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    // Drops callers whose window has passed so the map stays bounded by active writers
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredWrites() {
+        long cutoff = System.currentTimeMillis() - readYourWritesMillis;
+        lastWriteByCaller.values().removeIf(at -> at < cutoff);
+    }
+
+    // Null outside an HTTP request thread and for requests without an authenticated user
+    private String currentCaller() {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return null;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
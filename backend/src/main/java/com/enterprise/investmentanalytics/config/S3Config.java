@@ -7,6 +7,7 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration
 public class S3Config {
@@ -20,7 +21,9 @@ public class S3Config {
     @Value("${aws.s3.region}")
     private String region;
 
+    // Building the client loads the SDK's region and endpoint metadata; only pay for it on the first upload
     @Bean
+    @Lazy
     public AmazonS3 amazonS3() {
         // If keys are placeholders, avoiding crash by returning null or checking first?
         // Better to fail fast or handle gracefully. Let's assume user will fill them.
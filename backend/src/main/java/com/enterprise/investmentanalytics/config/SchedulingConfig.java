@@ -0,0 +1,30 @@
+package com.enterprise.investmentanalytics.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Thread pool behind every @Scheduled method, sized with
+ * app.scheduling.pool-size so a slow profit run no longer delays the other
+ * jobs. Scheduler threads are batch threads and draw from the batch connection
+ * pool. Overlap protection and run history live in ScheduledJobService.
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadFactory(Workload.BATCH.threadFactory("scheduler"));
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.setErrorHandler(e -> log.error("Unhandled error in scheduled task: {}", e.getMessage(), e));
+        return scheduler;
+    }
+}
@@ -0,0 +1,17 @@
+package com.enterprise.investmentanalytics.config;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+import java.util.Set;
+
+/**
+ * Registers SchemaMigrationRunner as a database initializer, so Spring Boot
+ * makes the EntityManagerFactory and JdbcTemplate beans wait for it.
+ */
+public class SchemaMigrationInitializerDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(SchemaMigrationRunner.class);
+    }
+}
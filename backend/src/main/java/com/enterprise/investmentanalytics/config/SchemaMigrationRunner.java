@@ -0,0 +1,287 @@
+package com.enterprise.investmentanalytics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies db/migration/phaseN_*.sql scripts in version order, each exactly
+ * once, and records them in schema_history. A normal boot only reads
+ * schema_history; scripts run when a new phase ships. Databases that predate
+ * the runner are baselined at app.migrations.baseline-version the first time,
+ * so the phases already applied by hand are recorded without running again.
+ * The phases alter the application's tables and cannot create them, so an
+ * empty schema is left alone: nothing is recorded until the base schema has
+ * been loaded, and the first boot after that baselines it as above.
+ *
+ * Runs before JPA and every JdbcTemplate user (see
+ * SchemaMigrationInitializerDetector). Concurrent instances serialize on a
+ * MySQL named lock. DDL is not transactional in MySQL: a script failing half
+ * way must be repaired by hand before the next boot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaMigrationRunner implements InitializingBean {
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("phase(\\d+)_(.+)\\.sql");
+    private static final String LOCK_NAME = "schema_migration";
+    // Present in every schema that predates the runner
+    private static final String EXISTING_SCHEMA_TABLE = "users";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${app.migrations.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.migrations.locations:classpath:db/migration/phase*.sql}")
+    private String locations;
+
+    @Value("${app.migrations.baseline-version:3}")
+    private int baselineVersion;
+
+    @Value("${app.migrations.lock-timeout-seconds:300}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            log.info("Schema migrations are disabled");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        List<Migration> migrations = discover();
+
+        // Own unpooled connection: scripts change session settings that must not leak into a pool
+        DataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            int applied = migrate(jdbcTemplate, migrations);
+            log.info("Schema migrations: {} applied, {} known, {} ms", applied, migrations.size(),
+                    System.currentTimeMillis() - started);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed: " + e.getMessage(), e);
+        }
+    }
+
+    private int migrate(JdbcTemplate jdbcTemplate, List<Migration> migrations) {
+        Map<Integer, Long> history = readHistory(jdbcTemplate);
+        if (history != null && pending(migrations, history).isEmpty()) {
+            validate(migrations, history);
+            return 0;
+        }
+
+        Integer locked = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME,
+                lockTimeoutSeconds);
+        if (locked == null || locked != 1) {
+            throw new IllegalStateException("Could not acquire the schema migration lock within "
+                    + lockTimeoutSeconds + " s");
+        }
+        try {
+            // Another instance may have migrated while this one waited for the lock
+            history = readHistory(jdbcTemplate);
+            if (history == null) {
+                if (!tableExists(jdbcTemplate, EXISTING_SCHEMA_TABLE)) {
+                    log.warn("Schema has no {} table, skipping schema migrations until the base schema is loaded",
+                            EXISTING_SCHEMA_TABLE);
+                    return 0;
+                }
+                history = createHistory(jdbcTemplate, migrations);
+            }
+            validate(migrations, history);
+
+            int applied = 0;
+            for (Migration migration : pending(migrations, history)) {
+                apply(jdbcTemplate, migration);
+                applied++;
+            }
+            return applied;
+        } finally {
+            jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+        }
+    }
+
+    private void apply(JdbcTemplate jdbcTemplate, Migration migration) {
+        log.info("Applying schema migration {} ({})", migration.version, migration.script);
+        long started = System.currentTimeMillis();
+        for (String statement : split(migration.sql)) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                throw new IllegalStateException("Schema migration " + migration.script + " failed at: "
+                        + abbreviate(statement) + " (" + e.getMessage() + ")", e);
+            }
+        }
+        long duration = System.currentTimeMillis() - started;
+        record(jdbcTemplate, migration, "SQL", duration);
+        log.info("Applied schema migration {} in {} ms", migration.script, duration);
+    }
+
+    // Version -> checksum of every recorded migration, null while the history table does not exist
+    private Map<Integer, Long> readHistory(JdbcTemplate jdbcTemplate) {
+        if (!tableExists(jdbcTemplate, "schema_history")) {
+            return null;
+        }
+        Map<Integer, Long> history = new HashMap<>();
+        RowCallbackHandler collect = rs -> history.put(rs.getInt("version"), rs.getLong("checksum"));
+        jdbcTemplate.query("SELECT version, checksum FROM schema_history", collect);
+        return history;
+    }
+
+    private boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        Integer tables = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?", Integer.class, table);
+        return tables != null && tables > 0;
+    }
+
+    private Map<Integer, Long> createHistory(JdbcTemplate jdbcTemplate, List<Migration> migrations) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_history ("
+                + "version INT NOT NULL PRIMARY KEY, "
+                + "script VARCHAR(200) NOT NULL, "
+                + "checksum BIGINT NOT NULL, "
+                + "type VARCHAR(20) NOT NULL, "
+                + "installed_at DATETIME(6) NOT NULL, "
+                + "execution_ms BIGINT NOT NULL"
+                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci");
+
+        Map<Integer, Long> history = new HashMap<>();
+        for (Migration migration : migrations) {
+            if (migration.version <= baselineVersion) {
+                record(jdbcTemplate, migration, "BASELINE", 0);
+                history.put(migration.version, migration.checksum);
+            }
+        }
+        log.info("Created schema_history, baselined {} migrations up to version {}", history.size(),
+                baselineVersion);
+        return history;
+    }
+
+    private void record(JdbcTemplate jdbcTemplate, Migration migration, String type, long executionMs) {
+        jdbcTemplate.update("INSERT INTO schema_history (version, script, checksum, type, installed_at, execution_ms) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", migration.version, migration.script, migration.checksum, type,
+                LocalDateTime.now(), executionMs);
+    }
+
+    // Scripts must not change once shipped; an edited one is reported, not re-run
+    private void validate(List<Migration> migrations, Map<Integer, Long> history) {
+        for (Migration migration : migrations) {
+            Long recorded = history.get(migration.version);
+            if (recorded != null && recorded != migration.checksum) {
+                log.warn("Schema migration {} changed after it was applied (checksum {} vs {})", migration.script,
+                        recorded, migration.checksum);
+            }
+        }
+    }
+
+    private List<Migration> pending(List<Migration> migrations, Map<Integer, Long> history) {
+        return migrations.stream().filter(migration -> !history.containsKey(migration.version)).toList();
+    }
+
+    private List<Migration> discover() {
+        List<Migration> migrations = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(locations)) {
+                String name = resource.getFilename();
+                Matcher matcher = SCRIPT_NAME.matcher(name != null ? name : "");
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String sql = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                migrations.add(new Migration(Integer.parseInt(matcher.group(1)), name, sql));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read schema migrations: " + e.getMessage(), e);
+        }
+
+        migrations.sort(Comparator.comparingInt(migration -> migration.version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version == migrations.get(i - 1).version) {
+                throw new IllegalStateException("Duplicate schema migration version " + migrations.get(i).version
+                        + ": " + migrations.get(i - 1).script + ", " + migrations.get(i).script);
+            }
+        }
+        return migrations;
+    }
+
+    /**
+     * Splits a script into statements, honouring the mysql client's DELIMITER
+     * directive used around stored procedure bodies. Comment lines between
+     * statements are dropped.
+     */
+    static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String delimiter = ";";
+
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (current.isEmpty() && (trimmed.isEmpty() || trimmed.startsWith("--"))) {
+                continue;
+            }
+            if (trimmed.toUpperCase().startsWith("DELIMITER ")) {
+                delimiter = trimmed.substring("DELIMITER ".length()).trim();
+                continue;
+            }
+            current.append(line).append('\n');
+            if (!trimmed.startsWith("--") && trimmed.endsWith(delimiter)) {
+                String statement = current.toString().trim();
+                statement = statement.substring(0, statement.length() - delimiter.length()).trim();
+                if (!statement.isEmpty()) {
+                    statements.add(statement);
+                }
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private static String abbreviate(String statement) {
+        String flat = statement.replaceAll("\\s+", " ");
+        return flat.length() > 120 ? flat.substring(0, 120) + "..." : flat;
+    }
+
+    private static final class Migration {
+        private final int version;
+        private final String script;
+        private final String sql;
+        private final long checksum;
+
+        Migration(int version, String script, String sql) {
+            this.version = version;
+            this.script = script;
+            this.sql = sql;
+            CRC32 crc = new CRC32();
+            crc.update(sql.getBytes(StandardCharsets.UTF_8));
+            this.checksum = crc.getValue();
+        }
+    }
+}
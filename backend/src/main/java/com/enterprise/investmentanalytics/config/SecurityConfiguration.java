@@ -1,6 +1,7 @@
 package com.enterprise.investmentanalytics.config;
 
 import com.enterprise.investmentanalytics.security.JwtAuthenticationFilter;
+import com.enterprise.investmentanalytics.security.RequestTimingFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +25,7 @@ import static com.enterprise.investmentanalytics.model.enums.Role.CLIENT;
 public class SecurityConfiguration {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RequestTimingFilter requestTimingFilter;
     private final AuthenticationProvider authenticationProvider;
 
     @Bean
@@ -41,7 +43,8 @@ public class SecurityConfiguration {
                         .authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(requestTimingFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,107 @@
+package com.enterprise.investmentanalytics.config;
+
+import com.enterprise.investmentanalytics.service.SqlStatementStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements of every request, authentication included, and
+ * checks them against the endpoint's @MaxQueries budget (default
+ * app.sql-budget.default-max). Over-budget requests and statements repeated
+ * app.sql-budget.repeat-threshold times (a likely N+1) are logged and kept per
+ * endpoint for GET /api/admin/sql-statements.
+ *
+ * With app.sql-budget.fail-on-exceed, an over-budget request throws once the
+ * handler returns. Integration tests set it so that a query count regression
+ * fails the build; in a running server the response is already committed and
+ * the error is only logged.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementStatsService sqlStatementStatsService;
+
+    @Value("${app.sql-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.sql-budget.default-max:50}")
+    private int defaultMax;
+
+    @Value("${app.sql-budget.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Value("${app.sql-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlStatementCounter.Snapshot snapshot;
+        SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            snapshot = SqlStatementCounter.end();
+        }
+
+        // Only requests that reached a controller; rejected and unmapped ones have no route
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + route;
+        int budget = budget(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+        boolean repeated = snapshot.mostRepeatedCount() >= repeatThreshold;
+        sqlStatementStatsService.record(endpoint, budget, snapshot, repeated);
+
+        if (repeated) {
+            log.warn("Possible N+1 on {}: same statement {} times: {}", endpoint, snapshot.mostRepeatedCount(),
+                    snapshot.mostRepeatedSql());
+        }
+        if (snapshot.total() > budget) {
+            log.warn("{} ran {} SQL statements, budget {}", endpoint, snapshot.total(), budget);
+            if (failOnExceed) {
+                throw new IllegalStateException(endpoint + " ran " + snapshot.total()
+                        + " SQL statements, over its budget of " + budget);
+            }
+        }
+    }
+
+    private int budget(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MaxQueries maxQueries = handlerMethod.getMethodAnnotation(MaxQueries.class);
+            if (maxQueries == null) {
+                maxQueries = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), MaxQueries.class);
+            }
+            if (maxQueries != null) {
+                return maxQueries.value();
+            }
+        }
+        return defaultMax;
+    }
+}
@@ -0,0 +1,117 @@
+package com.enterprise.investmentanalytics.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a
+ * counting scope is open. SqlStatementBudgetFilter opens one per HTTP request;
+ * tests can wrap any call with count(...), e.g. a MockMvc perform, which runs
+ * on the calling thread. Work handed to the workload executors runs on other
+ * threads and is not counted. JdbcTemplate statements bypass Hibernate and
+ * are not counted either.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    // Statements kept per scope for repeat detection; the total is always exact
+    private static final int MAX_DISTINCT = 200;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    /**
+     * Statements run inside one scope. mostRepeatedSql is the statement run
+     * most often (IN lists collapsed), the usual shape of an N+1.
+     */
+    public record Snapshot(int total, String mostRepeatedSql, int mostRepeatedCount) {
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        SCOPE.set(new Scope(SCOPE.get()));
+    }
+
+    // Closes the innermost scope; its statements also count towards the enclosing one
+    public static Snapshot end() {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return new Snapshot(0, null, 0);
+        }
+        if (scope.outer != null) {
+            SCOPE.set(scope.outer);
+        } else {
+            SCOPE.remove();
+        }
+        return scope.snapshot();
+    }
+
+    // Statements so far in the innermost open scope, 0 outside any scope
+    public static int current() {
+        Scope scope = SCOPE.get();
+        return scope != null ? scope.total : 0;
+    }
+
+    public static Snapshot count(Runnable work) {
+        begin();
+        try {
+            work.run();
+        } catch (RuntimeException | Error e) {
+            end();
+            throw e;
+        }
+        return end();
+    }
+
+    private static final class Scope {
+        private final Scope outer;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int total;
+
+        Scope(Scope outer) {
+            this.outer = outer;
+        }
+
+        void record(String sql) {
+            String key = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?)");
+            for (Scope scope = this; scope != null; scope = scope.outer) {
+                scope.total++;
+                if (scope.statements.size() < MAX_DISTINCT || scope.statements.containsKey(key)) {
+                    scope.statements.merge(key, 1, Integer::sum);
+                }
+            }
+        }
+
+        Snapshot snapshot() {
+            String mostRepeated = null;
+            int mostRepeatedCount = 0;
+            for (Map.Entry<String, Integer> entry : statements.entrySet()) {
+                if (entry.getValue() > mostRepeatedCount) {
+                    mostRepeated = entry.getKey();
+                    mostRepeatedCount = entry.getValue();
+                }
+            }
+            return new Snapshot(total, mostRepeated, mostRepeatedCount);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.enterprise.investmentanalytics.config;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Traffic classes that get their own connection pool and executor, so
+ * background work can never take connections or threads from client requests.
+ * Request threads are INTERACTIVE; everything else declares its workload by
+ * running on a workload thread or inside {@link #call}.
+ */
+public enum Workload {
+    INTERACTIVE,
+    BATCH,
+    EXPORT;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : INTERACTIVE;
+    }
+
+    public <T> T call(Supplier<T> work) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // Threads made by this factory run every task as this workload
+    public ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(() -> run(runnable), namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Name used in configuration keys and pool names
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,54 @@
+package com.enterprise.investmentanalytics.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per workload, sized under app.workloads.{name}.db-pool-size.
+ * Connection settings come from spring.datasource.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WorkloadPoolsConfig {
+
+    private final Environment environment;
+
+    @Bean
+    public WorkloadRoutingDataSource workloadRoutingDataSource(DataSourceProperties properties) {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            int size = setting(workload, "db-pool-size", 5);
+            pool.setPoolName(workload.key());
+            pool.setMaximumPoolSize(size);
+            // Only interactive traffic keeps a full set of idle connections
+            pool.setMinimumIdle(workload == Workload.INTERACTIVE ? size : 1);
+            pool.setConnectionTimeout(setting(workload, "connection-timeout-ms", 30000));
+            pools.put(workload, pool);
+        }
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    // With a replica configured, ReplicaDataSourceConfig wraps the workload pools instead
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+    }
+
+    private int setting(Workload workload, String name, int defaultValue) {
+        return environment.getProperty("app.workloads." + workload.key() + "." + name, Integer.class, defaultValue);
+    }
+}
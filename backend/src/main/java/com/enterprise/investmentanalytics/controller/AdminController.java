@@ -11,6 +11,7 @@ import com.enterprise.investmentanalytics.repository.UserRepository;
 import com.enterprise.investmentanalytics.service.AuthenticationService;
 import com.enterprise.investmentanalytics.service.WithdrawalService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.lang.NonNull;
@@ -36,12 +37,14 @@ public class AdminController {
     private final com.enterprise.investmentanalytics.service.AuditService auditService;
     private final com.enterprise.investmentanalytics.service.UserIdGeneratorService userIdGeneratorService;
     private final com.enterprise.investmentanalytics.service.TransactionService transactionService;
-    private final com.enterprise.investmentanalytics.repository.MonthlyProfitHistoryRepository monthlyProfitHistoryRepository;
+    private final com.enterprise.investmentanalytics.repository.ProfitPeriodRollupRepository profitPeriodRollupRepository;
     private final com.enterprise.investmentanalytics.service.DepositService depositService;
+    private final com.enterprise.investmentanalytics.service.DepositReconciliationService depositReconciliationService;
     private final com.enterprise.investmentanalytics.service.PayoutRequestService payoutRequestService;
     private final com.enterprise.investmentanalytics.repository.PortfolioRepository portfolioRepository;
     private final com.enterprise.investmentanalytics.repository.TransactionRepository transactionRepository;
     private final com.enterprise.investmentanalytics.service.DeleteRequestService deleteRequestService;
+    private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 
     @PostMapping("/users")
     public ResponseEntity<AuthenticationResponse> createUser(@RequestBody RegisterRequest request) {
@@ -49,10 +52,10 @@ public class AdminController {
     }
 
     @GetMapping("/pending-users")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.PendingUserDTO>> getPendingUsers() {
-        return ResponseEntity.ok(userRepository.findAll().stream()
-                .filter(u -> u
-                        .getStatus() == com.enterprise.investmentanalytics.model.enums.UserStatus.PENDING_APPROVAL)
+        return ResponseEntity.ok(userRepository
+                .findRowsByStatus(com.enterprise.investmentanalytics.model.enums.UserStatus.PENDING_APPROVAL).stream()
                 .map(u -> com.enterprise.investmentanalytics.dto.response.PendingUserDTO.builder()
                         .id(u.getId())
                         .userId(u.getUserId())
@@ -60,7 +63,7 @@ public class AdminController {
                         .email(u.getEmail())
                         .mobile(u.getMobile())
                         .role(u.getRole().toString())
-                        .mediatorName(u.getMediator() != null ? u.getMediator().getName() : "Direct")
+                        .mediatorName(u.getMediatorId() != null ? u.getMediatorName() : "Direct")
                         .createdAt(u.getCreatedAt())
                         .build())
                 .toList());
@@ -74,6 +77,8 @@ public class AdminController {
             user.setApprovedAt(java.time.LocalDateTime.now());
         }
         userRepository.save(user);
+        eventPublisher.publishEvent(
+                com.enterprise.investmentanalytics.event.ClientDataChangedEvent.of("USER_APPROVED", user));
 
         // Also create portfolio if not exists? Usually done on creation but here we
         // might want to do it now.
@@ -88,6 +93,8 @@ public class AdminController {
         User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         user.setStatus(com.enterprise.investmentanalytics.model.enums.UserStatus.REJECTED);
         userRepository.save(user);
+        eventPublisher.publishEvent(
+                com.enterprise.investmentanalytics.event.ClientDataChangedEvent.of("USER_REJECTED", user));
 
         auditService.log("REJECT_USER", "ADMIN", "Admin " + admin.getEmail() + " rejected user " + user.getId());
         return ResponseEntity.ok(java.util.Map.of("message", "User request rejected"));
@@ -116,6 +123,8 @@ public class AdminController {
         user.setDeletedAt(null);
         user.setDeletedBy(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(
+                com.enterprise.investmentanalytics.event.ClientDataChangedEvent.of("USER_REACTIVATED", user));
 
         auditService.log("REACTIVATE_USER", "ADMIN", "Admin " + admin.getEmail() + " reactivated user " + user.getId());
         return ResponseEntity.ok(java.util.Map.of("message", "User reactivated successfully"));
@@ -123,37 +132,44 @@ public class AdminController {
 
     @DeleteMapping("/users/{id}/permanent")
     public ResponseEntity<?> deleteUserPermanently(@PathVariable UUID id, @AuthenticationPrincipal User admin) {
-        User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
-        if (!user.isDeleted()
-                && user.getStatus() != com.enterprise.investmentanalytics.model.enums.UserStatus.INACTIVE) {
-            throw new RuntimeException("Only inactive users can be deleted permanently");
-        }
-
-        deleteRequestService.performPermanentDelete(id);
+        // Large purges run as a background maintenance job; poll /maintenance/jobs/{jobId} for progress
+        com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO job = deleteRequestService
+                .startPermanentDelete(id, admin.getEmail());
 
         auditService.log("PERMANENT_DELETE_USER", "ADMIN",
-                "Admin " + admin.getEmail() + " permanently deleted user " + id);
-        return ResponseEntity.ok(java.util.Map.of("message", "User deleted permanently from database"));
+                "Admin " + admin.getEmail() + " started permanent deletion of user " + id + " (job " + job.getId()
+                        + ")");
+        return ResponseEntity.accepted().body(java.util.Map.of(
+                "message", "Permanent deletion started",
+                "jobId", job.getId()));
     }
 
     @GetMapping("/users")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("admin-lists")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.UserDTO>> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAllWithMediator().stream()
+        return ResponseEntity.ok(userRepository.findAllRows().stream()
                 .map(this::mapToUserDTO)
                 .toList());
     }
 
     @GetMapping("/clients")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("admin-lists")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO>> getClientsSummary() {
         return ResponseEntity.ok(portfolioService.getAdminClientSummaries());
     }
 
     @GetMapping("/clients/inactive")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("admin-lists")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO>> getInactiveClientsSummary() {
         return ResponseEntity.ok(portfolioService.getInactiveClientSummaries());
     }
 
     @GetMapping("/mediator/{id}/clients")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("admin-lists")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO>> getMediatorClients(
             @PathVariable UUID id) {
         return ResponseEntity.ok(portfolioService.getClientSummariesByMediator(id));
@@ -177,11 +193,10 @@ public class AdminController {
         int currentMonth = now.getMonthValue();
         int currentYear = now.getYear();
 
-        java.math.BigDecimal currentMonthProfit = monthlyProfitHistoryRepository
-                .findAllByUserIdAndMonthAndYear(user.getId(), currentMonth, currentYear)
-                .stream()
-                .map(com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory::getProfitAmount)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
+        java.math.BigDecimal currentMonthProfit = profitPeriodRollupRepository
+                .findByUserIdAndYearAndMonth(user.getId(), currentYear, currentMonth)
+                .map(com.enterprise.investmentanalytics.model.entity.ProfitPeriodRollup::getTotalProfit)
+                .orElse(java.math.BigDecimal.ZERO);
 
         Map<String, Object> response = new HashMap<>();
         // Flatten Portfolio into the response for backward compatibility if possible,
@@ -216,9 +231,44 @@ public class AdminController {
     }
 
     @GetMapping("/clients/{id}/transactions")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("ledgers")
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.TransactionResponse>> getClientTransactions(
-            @PathVariable UUID id) {
-        return ResponseEntity.ok(transactionService.getTransactionsByUserId(id));
+            @PathVariable UUID id,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(transactionService.getTransactionsByUserId(id, includeArchived));
+    }
+
+    private final com.enterprise.investmentanalytics.service.BalanceHistoryService balanceHistoryService;
+
+    @GetMapping("/clients/{id}/balance-history")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.projection.BalancePoint>> getClientBalanceHistory(
+            @PathVariable UUID id,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @RequestParam(value = "points", required = false) Integer points) {
+        return ResponseEntity.ok(balanceHistoryService.getSeries(id, from, to, points));
+    }
+
+    // Re-runs today's end-of-day snapshot, e.g. after a missed schedule; past days cannot be rebuilt
+    @PostMapping("/maintenance/balance-snapshot")
+    public ResponseEntity<Map<String, Object>> takeBalanceSnapshot(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate date) {
+        java.time.LocalDate day = date != null ? date : java.time.LocalDate.now();
+        int rows = balanceHistoryService.takeSnapshot(day);
+        return ResponseEntity.ok(Map.of("date", day.toString(), "rows", rows));
+    }
+
+    @GetMapping("/clients/{id}/transactions/page")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.TransactionPageDTO> getClientTransactionPage(
+            @PathVariable UUID id,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(transactionService.getTransactionPage(id, type, from, to, cursor, limit,
+                includeArchived));
     }
 
     @PostMapping("/dev/seed-sample-clients")
@@ -372,6 +422,8 @@ public class AdminController {
         }
 
         userRepository.save(user);
+        eventPublisher.publishEvent(
+                com.enterprise.investmentanalytics.event.ClientDataChangedEvent.of("USER_UPDATED", user));
 
         return ResponseEntity.ok(Map.of("success", true, "message", "User updated successfully"));
     }
@@ -436,6 +488,7 @@ public class AdminController {
     }
 
     @GetMapping("/withdrawal-requests")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<WithdrawalRequestDTO>> getAllWithdrawalRequests() {
         return ResponseEntity.ok(withdrawalService.getAllWithdrawalRequests());
     }
@@ -558,6 +611,7 @@ public class AdminController {
 
     // Deposit Request Management
     @GetMapping("/deposit-requests")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<DepositRequestDTO>> getAllDepositRequests() {
         return ResponseEntity.ok(depositService.getAllDepositRequests());
     }
@@ -606,6 +660,21 @@ public class AdminController {
         }
     }
 
+    @PostMapping(value = "/deposit-requests/reconcile", consumes = "multipart/form-data")
+    public ResponseEntity<?> reconcileDepositRequests(
+            @RequestParam("statement") org.springframework.web.multipart.MultipartFile statement,
+            @RequestParam(value = "autoApprove", defaultValue = "false") boolean autoApprove,
+            @RequestParam(value = "note", required = false) String note) {
+        try {
+            return ResponseEntity.ok(depositReconciliationService.reconcile(statement, autoApprove, note));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     @PostMapping("/users/{userId}/delete")
     public ResponseEntity<?> deleteUser(
             @PathVariable UUID userId,
@@ -624,6 +693,7 @@ public class AdminController {
     }
 
     @GetMapping("/delete-requests")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO>> getPendingDeleteRequests() {
         return ResponseEntity.ok(deleteRequestService.getAllPendingRequests());
     }
@@ -649,6 +719,7 @@ public class AdminController {
     // --- Payout Request Management ---
 
     @GetMapping("/payout-requests")
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.PayoutRequestDTO>> getAllPayoutRequests() {
         return ResponseEntity.ok(payoutRequestService.getAllRequests());
     }
@@ -669,6 +740,292 @@ public class AdminController {
         return ResponseEntity.ok(payoutRequestService.rejectRequest(id, admin.getEmail(), reason));
     }
 
+    // --- Maintenance Jobs ---
+
+    private final com.enterprise.investmentanalytics.service.MaintenanceJobService maintenanceJobService;
+
+    @GetMapping("/maintenance/jobs")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO>> getMaintenanceJobs() {
+        return ResponseEntity.ok(maintenanceJobService.getJobs());
+    }
+
+    @GetMapping("/maintenance/jobs/{jobId}")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO> getMaintenanceJob(
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(maintenanceJobService.getJob(jobId));
+    }
+
+    private final com.enterprise.investmentanalytics.service.UuidRekeyService uuidRekeyService;
+
+    @PostMapping("/maintenance/uuid-rekey")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO> startUuidRekey(
+            @AuthenticationPrincipal User admin) {
+        return ResponseEntity.accepted().body(uuidRekeyService.startRekey(admin.getEmail()));
+    }
+
+    // --- Ledger Partitions ---
+
+    private final com.enterprise.investmentanalytics.service.PartitionMaintenanceService partitionMaintenanceService;
+
+    @GetMapping("/partitions")
+    public ResponseEntity<Map<String, Object>> getPartitions() {
+        return ResponseEntity.ok(partitionMaintenanceService.getPartitionStatus());
+    }
+
+    // Creates upcoming monthly partitions and archives months older than the hot window
+    @PostMapping("/partitions/maintain")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO> maintainPartitions(
+            @AuthenticationPrincipal User admin) {
+        return ResponseEntity.accepted().body(partitionMaintenanceService.startMaintenance(admin.getEmail()));
+    }
+
+    private final com.enterprise.investmentanalytics.service.ProfitRollupService profitRollupService;
+
+    // Folds the accrual rows of closed months into monthly rollups
+    @PostMapping("/maintenance/profit-compaction")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO> compactProfitRows(
+            @AuthenticationPrincipal User admin) {
+        return ResponseEntity.accepted().body(profitRollupService.startCompaction(admin.getEmail()));
+    }
+
+    // --- Batch Decisions ---
+
+    private final com.enterprise.investmentanalytics.service.BatchDecisionService batchDecisionService;
+
+    @PostMapping("/deposit-requests/batch/approve")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> approveDepositRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body) {
+        return ResponseEntity.ok(batchDecisionService.approveDeposits(body.getIds(),
+                body.getNote() != null ? body.getNote() : ""));
+    }
+
+    @PostMapping("/deposit-requests/batch/reject")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> rejectDepositRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body) {
+        return ResponseEntity.ok(batchDecisionService.rejectDeposits(body.getIds(),
+                body.getReason() != null ? body.getReason() : "No reason provided"));
+    }
+
+    @PostMapping("/withdrawal-requests/batch/approve")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> approveWithdrawalRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body,
+            @AuthenticationPrincipal User admin) {
+        String adminId = admin.getUserId() != null ? admin.getUserId() : admin.getEmail();
+        return ResponseEntity.ok(batchDecisionService.approveWithdrawals(body.getIds(), adminId,
+                body.getPaymentMode() != null ? body.getPaymentMode() : "Other"));
+    }
+
+    @PostMapping("/withdrawal-requests/batch/reject")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> rejectWithdrawalRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body,
+            @AuthenticationPrincipal User admin) {
+        String adminId = admin.getUserId() != null ? admin.getUserId() : admin.getEmail();
+        return ResponseEntity.ok(batchDecisionService.rejectWithdrawals(body.getIds(), adminId,
+                body.getReason() != null ? body.getReason() : "No reason provided"));
+    }
+
+    @PostMapping("/payout-requests/batch/approve")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> approvePayoutRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body,
+            @AuthenticationPrincipal User admin) {
+        return ResponseEntity.ok(batchDecisionService.approvePayouts(body.getIds(), admin.getEmail()));
+    }
+
+    @PostMapping("/payout-requests/batch/reject")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.BatchResultDTO> rejectPayoutRequests(
+            @RequestBody com.enterprise.investmentanalytics.dto.request.BatchDecisionRequest body,
+            @AuthenticationPrincipal User admin) {
+        return ResponseEntity.ok(batchDecisionService.rejectPayouts(body.getIds(), admin.getEmail(),
+                body.getReason() != null ? body.getReason() : "Rejected by admin"));
+    }
+
+    // --- Payout Window ---
+
+    private final com.enterprise.investmentanalytics.service.PayoutWindowService payoutWindowService;
+
+    @GetMapping("/payout-window/forecast")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("exports")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.PayoutWindowForecastDTO> getPayoutWindowForecast() {
+        return ResponseEntity.ok(payoutWindowService.forecast());
+    }
+
+    @PostMapping("/payout-window/generate")
+    public ResponseEntity<Map<String, Object>> generatePayoutWindowRequests() {
+        return ResponseEntity.ok(payoutWindowService.generateWindowPayouts());
+    }
+
+    @PostMapping("/payout-window/approve")
+    public ResponseEntity<Map<String, Object>> approvePayoutWindowRequests(@AuthenticationPrincipal User admin) {
+        // Runs on the batch workload; the request thread only waits for the result
+        return ResponseEntity.ok(workloadExecutorService.callAndWait(
+                com.enterprise.investmentanalytics.config.Workload.BATCH,
+                new org.springframework.security.concurrent.DelegatingSecurityContextCallable<>(
+                        () -> payoutWindowService.approveWindowPayouts(admin.getEmail()))));
+    }
+
+    // --- Scheduled Jobs ---
+
+    private final com.enterprise.investmentanalytics.service.ScheduledJobService scheduledJobService;
+
+    @GetMapping("/scheduler/jobs")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.ScheduledJobDTO>> getScheduledJobs() {
+        return ResponseEntity.ok(scheduledJobService.getJobs());
+    }
+
+    @GetMapping("/scheduler/jobs/{name}")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.ScheduledJobDTO> getScheduledJob(
+            @PathVariable String name) {
+        return ResponseEntity.ok(scheduledJobService.getJob(name));
+    }
+
+    // --- Workloads ---
+
+    private final com.enterprise.investmentanalytics.service.WorkloadExecutorService workloadExecutorService;
+
+    @GetMapping("/workloads")
+    public ResponseEntity<Map<String, Object>> getWorkloadStats() {
+        return ResponseEntity.ok(workloadExecutorService.getStats());
+    }
+
+    // --- Startup Timeline ---
+
+    private final com.enterprise.investmentanalytics.service.StartupTimelineService startupTimelineService;
+
+    @GetMapping("/startup")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.StartupTimelineDTO> getStartupTimeline(
+            @RequestParam(defaultValue = "20") int top) {
+        return startupTimelineService.getTimeline(top)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // --- SQL Statement Budgets ---
+
+    private final com.enterprise.investmentanalytics.service.SqlStatementStatsService sqlStatementStatsService;
+
+    @GetMapping("/sql-statements")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.SqlStatementStatsDTO>> getSqlStatementStats() {
+        return ResponseEntity.ok(sqlStatementStatsService.getStats());
+    }
+
+    @DeleteMapping("/sql-statements")
+    public ResponseEntity<Void> resetSqlStatementStats() {
+        sqlStatementStatsService.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    // --- Load Shedding ---
+
+    private final com.enterprise.investmentanalytics.service.LoadSheddingService loadSheddingService;
+
+    @GetMapping("/load-shedding")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.ConcurrencyLimitDTO>> getConcurrencyLimits() {
+        return ResponseEntity.ok(loadSheddingService.getLimits());
+    }
+
+    // --- Request Coalescing ---
+
+    private final com.enterprise.investmentanalytics.service.SingleFlightService singleFlightService;
+
+    @GetMapping("/single-flight")
+    public ResponseEntity<Map<String, Object>> getSingleFlightStats() {
+        return ResponseEntity.ok(singleFlightService.getStats());
+    }
+
+    // --- Client Summary Cache ---
+
+    private final com.enterprise.investmentanalytics.service.ClientSummaryCache clientSummaryCache;
+
+    @GetMapping("/summary-cache")
+    public ResponseEntity<Map<String, Object>> getSummaryCacheStats() {
+        return ResponseEntity.ok(clientSummaryCache.getStats());
+    }
+
+    @DeleteMapping("/summary-cache")
+    public ResponseEntity<Void> clearSummaryCache() {
+        clientSummaryCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    // --- Request Latency ---
+
+    private final com.enterprise.investmentanalytics.service.RequestLatencyService requestLatencyService;
+
+    // With reset=true the snapshot closes the interval and the next one starts empty
+    @GetMapping("/latency")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.RequestLatencyDTO>> getRequestLatency(
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(requestLatencyService.getSnapshot(reset));
+    }
+
+    @DeleteMapping("/latency")
+    public ResponseEntity<Void> resetRequestLatency() {
+        requestLatencyService.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    // --- Flight Recordings ---
+
+    private final com.enterprise.investmentanalytics.service.JfrRecordingService jfrRecordingService;
+
+    // Returns at once; poll /jfr/recordings/{id} until COMPLETED, then download the file
+    @PostMapping("/jfr/recordings")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.JfrRecordingDTO> recordFlight(
+            @RequestParam(defaultValue = "30") int durationSeconds,
+            @RequestParam(defaultValue = "default") String profile) {
+        return ResponseEntity.accepted().body(jfrRecordingService.start(durationSeconds, profile));
+    }
+
+    @GetMapping("/jfr/recordings/{id}")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.JfrRecordingDTO> getFlightRecording(
+            @PathVariable long id) {
+        return ResponseEntity.ok(jfrRecordingService.getRecording(id));
+    }
+
+    // Streams the .jfr file for JDK Mission Control; it is deleted once downloaded
+    @GetMapping("/jfr/recordings/{id}/file")
+    public ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody>
+            downloadFlightRecording(@PathVariable long id) {
+        java.nio.file.Path file = jfrRecordingService.takeFile(id);
+        org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody body = out -> {
+            try {
+                java.nio.file.Files.copy(file, out);
+            } finally {
+                jfrRecordingService.deleteQuietly(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+
+    // --- Bank Transfer Export ---
+
+    private final com.enterprise.investmentanalytics.service.BankTransferExportService bankTransferExportService;
+
+    @PostMapping("/bank-transfers/export")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("exports")
+    public ResponseEntity<Map<String, Object>> exportBankTransfers(
+            @RequestParam(value = "format", required = false) String format) {
+        // Runs on the export workload; the request thread only waits for the result
+        return ResponseEntity.ok(workloadExecutorService.callAndWait(
+                com.enterprise.investmentanalytics.config.Workload.EXPORT,
+                new org.springframework.security.concurrent.DelegatingSecurityContextCallable<>(
+                        () -> bankTransferExportService.exportApprovedTransfers(format))));
+    }
+
+    @GetMapping("/bank-transfers/exports/{batchId}")
+    public ResponseEntity<org.springframework.core.io.Resource> downloadBankTransferFile(@PathVariable String batchId) {
+        java.nio.file.Path file = bankTransferExportService.resolveExportFile(batchId);
+        return ResponseEntity.ok()
+                .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(org.springframework.http.MediaType.TEXT_PLAIN)
+                .body(new org.springframework.core.io.FileSystemResource(file));
+    }
+
     private com.enterprise.investmentanalytics.dto.response.UserDTO mapToUserDTO(User user) {
         return com.enterprise.investmentanalytics.dto.response.UserDTO.builder()
                 .id(user.getId())
@@ -686,6 +1043,24 @@ public class AdminController {
                 .build();
     }
 
+    private com.enterprise.investmentanalytics.dto.response.UserDTO mapToUserDTO(
+            com.enterprise.investmentanalytics.dto.projection.UserRow row) {
+        return com.enterprise.investmentanalytics.dto.response.UserDTO.builder()
+                .id(row.getId())
+                .sequentialId(row.getSequentialId())
+                .userId(row.getUserId())
+                .name(row.getName())
+                .email(row.getEmail())
+                .mobile(row.getMobile())
+                .role(row.getRole())
+                .status(row.getStatus())
+                .createdAt(row.getCreatedAt())
+                .isDeleted(Boolean.TRUE.equals(row.getDeleted()))
+                .mediatorName(row.getMediatorName())
+                .mediatorId(row.getMediatorId())
+                .build();
+    }
+
     private final com.enterprise.investmentanalytics.service.GlobalConfigService globalConfigService;
 
     @GetMapping("/config")
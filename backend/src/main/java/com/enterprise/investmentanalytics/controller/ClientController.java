@@ -11,6 +11,7 @@ import com.enterprise.investmentanalytics.service.AnalyticsService;
 import com.enterprise.investmentanalytics.service.TransactionService;
 import com.enterprise.investmentanalytics.service.WithdrawalService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -28,7 +29,8 @@ public class ClientController {
     private final TransactionService transactionService;
     private final WithdrawalService withdrawalService;
     private final com.enterprise.investmentanalytics.service.DepositService depositService;
-    private final com.enterprise.investmentanalytics.repository.MonthlyProfitHistoryRepository monthlyProfitHistoryRepository;
+    private final com.enterprise.investmentanalytics.service.ProfitRollupService profitRollupService;
+    private final com.enterprise.investmentanalytics.service.BalanceHistoryService balanceHistoryService;
 
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardMetrics> getDashboard(@AuthenticationPrincipal User user) {
@@ -36,27 +38,51 @@ public class ClientController {
     }
 
     @GetMapping("/transactions")
-    public ResponseEntity<List<TransactionResponse>> getTransactions(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(transactionService.getTransactionsByUserId(user.getId()));
+    public ResponseEntity<List<TransactionResponse>> getTransactions(@AuthenticationPrincipal User user,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(transactionService.getTransactionsByUserId(user.getId(), includeArchived));
+    }
+
+    @GetMapping("/transactions/page")
+    public ResponseEntity<com.enterprise.investmentanalytics.dto.response.TransactionPageDTO> getTransactionPage(
+            @AuthenticationPrincipal User user,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(transactionService.getTransactionPage(user.getId(), type, from, to, cursor, limit,
+                includeArchived));
+    }
+
+    // End-of-day balances, downsampled to at most `points` entries
+    @GetMapping("/balance-history")
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.projection.BalancePoint>> getBalanceHistory(
+            @AuthenticationPrincipal User user,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @RequestParam(value = "points", required = false) Integer points) {
+        return ResponseEntity.ok(balanceHistoryService.getSeries(user.getId(), from, to, points));
     }
 
     @GetMapping("/profit/history")
     public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.ProfitHistoryDTO>> getProfitHistory(
             @AuthenticationPrincipal User user) {
-        List<com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory> profitHistory = monthlyProfitHistoryRepository
-                .findByUserIdOrderByYearDescMonthDesc(user.getId());
-
-        List<com.enterprise.investmentanalytics.dto.response.ProfitHistoryDTO> dtoList = profitHistory.stream()
-                .map(history -> com.enterprise.investmentanalytics.dto.response.ProfitHistoryDTO.builder()
-                        .month(history.getMonth())
-                        .year(history.getYear())
-                        .profitAmount(history.getProfitAmount())
-                        .profitPercentage(history.getProfitPercentage())
-                        .calculatedAt(history.getCalculatedAt())
-                        .openingBalance(history.getOpeningBalance())
-                        .closingBalance(history.getClosingBalance())
-                        .profitMode(history.getProfitMode())
-                        .isProrated(history.isProrated())
+        // One row per month: compacted rollups plus the still open months folded from raw accruals
+        List<com.enterprise.investmentanalytics.dto.response.ProfitHistoryDTO> dtoList = profitRollupService
+                .getRollups(user).stream()
+                .map(rollup -> com.enterprise.investmentanalytics.dto.response.ProfitHistoryDTO.builder()
+                        .month(rollup.getMonth())
+                        .year(rollup.getYear())
+                        .profitAmount(rollup.getTotalProfit())
+                        .profitPercentage(rollup.getProfitPercentage())
+                        .calculatedAt(rollup.getLastAccrualAt())
+                        .openingBalance(rollup.getOpeningBalance())
+                        .closingBalance(rollup.getClosingBalance())
+                        .profitMode(rollup.getProfitMode())
+                        .isProrated(rollup.isProrated())
+                        .accrualCount(rollup.getAccrualCount())
                         .build())
                 .toList();
 
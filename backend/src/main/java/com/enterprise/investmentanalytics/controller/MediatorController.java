@@ -7,6 +7,7 @@ import com.enterprise.investmentanalytics.repository.UserRepository;
 import com.enterprise.investmentanalytics.service.AuthenticationService;
 import com.enterprise.investmentanalytics.service.PortfolioService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.lang.NonNull;
@@ -33,8 +34,10 @@ public class MediatorController {
 
         @GetMapping("/clients")
         public ResponseEntity<List<MediatorClientDTO>> getClients(@AuthenticationPrincipal User mediator) {
-                return ResponseEntity.ok(userRepository.findAllByMediatorId(mediator.getId()).stream()
-                                .filter(u -> u.getStatus() == com.enterprise.investmentanalytics.model.enums.UserStatus.ACTIVE)
+                return ResponseEntity.ok(userRepository
+                                .findRowsByMediatorIdAndStatus(mediator.getId(),
+                                                com.enterprise.investmentanalytics.model.enums.UserStatus.ACTIVE)
+                                .stream()
                                 .map(this::mapToMediatorClientDTO)
                                 .toList());
         }
@@ -55,9 +58,10 @@ public class MediatorController {
 
         @GetMapping("/pending-users")
         public ResponseEntity<List<MediatorClientDTO>> getPendingUsers(@AuthenticationPrincipal User mediator) {
-                return ResponseEntity.ok(userRepository.findAllByMediatorId(mediator.getId()).stream()
-                                .filter(u -> u
-                                                .getStatus() == com.enterprise.investmentanalytics.model.enums.UserStatus.PENDING_APPROVAL)
+                return ResponseEntity.ok(userRepository
+                                .findRowsByMediatorIdAndStatus(mediator.getId(),
+                                                com.enterprise.investmentanalytics.model.enums.UserStatus.PENDING_APPROVAL)
+                                .stream()
                                 .map(this::mapToMediatorClientDTO)
                                 .toList());
         }
@@ -173,8 +177,10 @@ public class MediatorController {
         }
 
         @GetMapping("/client/{userId}/transactions")
+        @com.enterprise.investmentanalytics.config.ConcurrencyLimited("ledgers")
         public ResponseEntity<List<com.enterprise.investmentanalytics.dto.response.TransactionResponse>> getClientTransactions(
                         @PathVariable String userId,
+                        @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
                         @AuthenticationPrincipal User mediator) {
                 User user = userRepository.findByUserId(userId)
                                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
@@ -183,7 +189,28 @@ public class MediatorController {
                         throw new RuntimeException("Access Denied: You do not own this client.");
                 }
 
-                return ResponseEntity.ok(transactionService.getTransactionsByUserId(user.getId()));
+                return ResponseEntity.ok(transactionService.getTransactionsByUserId(user.getId(), includeArchived));
+        }
+
+        @GetMapping("/client/{userId}/transactions/page")
+        public ResponseEntity<com.enterprise.investmentanalytics.dto.response.TransactionPageDTO> getClientTransactionPage(
+                        @PathVariable String userId,
+                        @RequestParam(value = "type", required = false) String type,
+                        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+                        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+                        @RequestParam(value = "cursor", required = false) String cursor,
+                        @RequestParam(value = "limit", required = false) Integer limit,
+                        @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
+                        @AuthenticationPrincipal User mediator) {
+                User user = userRepository.findByUserId(userId)
+                                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
+
+                if (user.getMediator() == null || !user.getMediator().getId().equals(mediator.getId())) {
+                        throw new RuntimeException("Access Denied: You do not own this client.");
+                }
+
+                return ResponseEntity.ok(transactionService.getTransactionPage(user.getId(), type, from, to, cursor,
+                                limit, includeArchived));
         }
 
         @GetMapping("/delete-requests")
@@ -204,7 +231,7 @@ public class MediatorController {
                 return ResponseEntity.ok(java.util.Map.of("message", "Deletion request submitted successfully"));
         }
 
-        private MediatorClientDTO mapToMediatorClientDTO(User user) {
+        private MediatorClientDTO mapToMediatorClientDTO(com.enterprise.investmentanalytics.dto.projection.UserRow user) {
                 return MediatorClientDTO.builder()
                                 .id(user.getId())
                                 .sequentialId(user.getSequentialId())
@@ -214,7 +241,7 @@ public class MediatorController {
                                 .mobile(user.getMobile())
                                 .status(user.getStatus())
                                 .createdAt(user.getCreatedAt())
-                                .isDeleted(user.isDeleted())
+                                .isDeleted(Boolean.TRUE.equals(user.getDeleted()))
                                 .build();
         }
 
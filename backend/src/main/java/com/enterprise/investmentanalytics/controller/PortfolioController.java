@@ -1,6 +1,5 @@
 package com.enterprise.investmentanalytics.controller;
 
-import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.service.PortfolioService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,8 +28,10 @@ public class PortfolioController {
     }
 
     @GetMapping("/all")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("admin-lists")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Portfolio>> getAllPortfolios() {
+    @com.enterprise.investmentanalytics.config.MaxQueries(5)
+    public ResponseEntity<List<com.enterprise.investmentanalytics.dto.projection.PortfolioRow>> getAllPortfolios() {
         return ResponseEntity.ok(portfolioService.getAllPortfolios());
     }
 }
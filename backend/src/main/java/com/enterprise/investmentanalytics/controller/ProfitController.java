@@ -1,12 +1,22 @@
 package com.enterprise.investmentanalytics.controller;
 
+import com.enterprise.investmentanalytics.config.Workload;
+import com.enterprise.investmentanalytics.dto.response.ProfitDryRunDTO;
+import com.enterprise.investmentanalytics.dto.response.ProfitRunDTO;
 import com.enterprise.investmentanalytics.service.GlobalConfigService;
 import com.enterprise.investmentanalytics.service.ProfitCalculationService;
+import com.enterprise.investmentanalytics.service.ProfitDryRunService;
+import com.enterprise.investmentanalytics.service.ProfitRunRegistry;
+import com.enterprise.investmentanalytics.service.WorkloadExecutorService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,6 +27,9 @@ public class ProfitController {
 
     private final GlobalConfigService configService;
     private final ProfitCalculationService profitCalculationService;
+    private final WorkloadExecutorService workloadExecutorService;
+    private final ProfitRunRegistry profitRunRegistry;
+    private final ProfitDryRunService profitDryRunService;
 
     @GetMapping("/config")
     public ResponseEntity<Map<String, String>> getAllConfigs() {
@@ -32,10 +45,55 @@ public class ProfitController {
     @PostMapping("/calculate")
     public ResponseEntity<?> calculateProfit(@RequestParam int month, @RequestParam int year) {
         try {
-            profitCalculationService.calculateMonthlyProfit(month, year);
+            // Runs on the batch workload so the run never takes request connections
+            workloadExecutorService.callAndWait(Workload.BATCH, () -> {
+                profitCalculationService.calculateMonthlyProfit(month, year);
+                return null;
+            });
             return ResponseEntity.ok(Map.of("message", "Profit calculation completed for " + month + "/" + year));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    // 204 when no profit run is in progress
+    @GetMapping("/runs/current")
+    public ResponseEntity<ProfitRunDTO> getCurrentRun() {
+        return profitRunRegistry.getCurrent()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<List<ProfitRunDTO>> getRecentRuns(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(profitRunRegistry.getRecent(limit));
+    }
+
+    // Computes the run without writing anything; month/year as for /calculate, default now
+    @GetMapping("/dry-run")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("exports")
+    public ResponseEntity<ProfitDryRunDTO> dryRun(@RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "10") int top) {
+        java.time.LocalDateTime runTime = profitDryRunService.resolveRunTime(month, year);
+        long started = System.currentTimeMillis();
+        List<ProfitCalculationService.Accrual> accruals = workloadExecutorService.callAndWait(Workload.BATCH,
+                () -> profitDryRunService.evaluate(runTime));
+        return ResponseEntity.ok(profitDryRunService.summarize(runTime, accruals, top,
+                System.currentTimeMillis() - started));
+    }
+
+    @GetMapping("/dry-run/csv")
+    @com.enterprise.investmentanalytics.config.ConcurrencyLimited("exports")
+    public ResponseEntity<StreamingResponseBody> dryRunCsv(@RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year) {
+        java.time.LocalDateTime runTime = profitDryRunService.resolveRunTime(month, year);
+        List<ProfitCalculationService.Accrual> accruals = workloadExecutorService.callAndWait(Workload.BATCH,
+                () -> profitDryRunService.evaluate(runTime));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"profit-dry-run-" + java.time.YearMonth.from(runTime) + ".csv\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(out -> profitDryRunService.writeCsv(accruals, out));
+    }
 }
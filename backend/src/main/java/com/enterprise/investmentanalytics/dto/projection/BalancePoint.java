@@ -0,0 +1,17 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// One point of a client's end-of-day balance series, selected with a constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalancePoint {
+    private LocalDate date;
+    private BigDecimal balance;
+}
@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Read-only row for the bank transfer file, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class BankTransferRow {
+    private UUID requestId;
+    private String requestType; // WITHDRAWAL or PAYOUT
+    private String userId;
+    private String beneficiaryName;
+    private String bankName;
+    private String accountNumber;
+    private BigDecimal amount;
+    private LocalDateTime approvedAt;
+}
@@ -0,0 +1,34 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import com.enterprise.investmentanalytics.model.enums.ProfitAccrualStatus;
+import com.enterprise.investmentanalytics.model.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A client with its mediator and portfolio columns, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class ClientSummaryRow {
+    private UUID clientId;
+    private String clientName;
+    private String email;
+    private String userId;
+    private String mobile;
+    private UserStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime userUpdatedAt;
+    private UUID mediatorId;
+    private String mediatorName;
+    private String mediatorUserId;
+    private UUID portfolioId; // Null when the client has no portfolio yet
+    private BigDecimal totalInvested;
+    private BigDecimal availableProfit;
+    private BigDecimal totalProfitEarned;
+    private BigDecimal profitPercentage;
+    private ProfitAccrualStatus profitStatus;
+    private LocalDateTime portfolioUpdatedAt;
+}
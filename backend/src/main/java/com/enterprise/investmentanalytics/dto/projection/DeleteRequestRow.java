@@ -0,0 +1,27 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import com.enterprise.investmentanalytics.model.enums.DeleteRequestStatus;
+import com.enterprise.investmentanalytics.model.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A delete request with its target user and requester, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class DeleteRequestRow {
+    private UUID id;
+    private String reason;
+    private DeleteRequestStatus status;
+    private LocalDateTime createdAt;
+    private UUID targetId; // Null once the target user is gone
+    private String targetName;
+    private String targetEmail;
+    private Role targetRole;
+    private UUID requesterId;
+    private String requesterName;
+    private String requesterEmail;
+    private Role requesterRole;
+}
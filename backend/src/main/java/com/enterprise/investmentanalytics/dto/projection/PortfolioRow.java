@@ -0,0 +1,34 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import com.enterprise.investmentanalytics.model.enums.ProfitAccrualStatus;
+import com.enterprise.investmentanalytics.model.enums.ProfitMode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Portfolio columns with the owner's identity, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class PortfolioRow {
+    private UUID id;
+    private UUID clientId;
+    private String userId;
+    private String userName;
+    private String userEmail;
+    private BigDecimal totalValue;
+    private BigDecimal totalInvested;
+    private BigDecimal availableProfit;
+    private BigDecimal totalProfitEarned;
+    private BigDecimal profitPercentage;
+    private ProfitMode profitMode;
+    private LocalDate profitModeEffectiveDate;
+    private ProfitAccrualStatus profitAccrualStatus;
+    private Boolean isProrationEnabled;
+    private Boolean allowEarlyExit;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
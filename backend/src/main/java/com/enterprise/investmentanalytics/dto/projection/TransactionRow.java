@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import com.enterprise.investmentanalytics.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Ledger row as listed to admins and mediators, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class TransactionRow {
+    private UUID id;
+    private TransactionType type;
+    private BigDecimal amount;
+    private String description;
+    private String messageContent;
+    private String screenshotPath;
+    private LocalDateTime createdAt;
+}
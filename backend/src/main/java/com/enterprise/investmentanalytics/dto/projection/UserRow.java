@@ -0,0 +1,27 @@
+package com.enterprise.investmentanalytics.dto.projection;
+
+import com.enterprise.investmentanalytics.model.enums.Role;
+import com.enterprise.investmentanalytics.model.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// User list columns with the mediator's name, selected with a constructor expression
+@Data
+@AllArgsConstructor
+public class UserRow {
+    private UUID id;
+    private Long sequentialId;
+    private String userId;
+    private String name;
+    private String email;
+    private String mobile;
+    private Role role;
+    private UserStatus status;
+    private LocalDateTime createdAt;
+    private Boolean deleted;
+    private UUID mediatorId;
+    private String mediatorName;
+}
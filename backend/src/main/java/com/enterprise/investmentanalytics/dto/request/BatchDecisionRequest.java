@@ -0,0 +1,20 @@
+package com.enterprise.investmentanalytics.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDecisionRequest {
+    private List<UUID> ids;
+    private String note; // Deposit approval note
+    private String reason; // Rejection reason
+    private String paymentMode; // Withdrawal approval payment mode
+}
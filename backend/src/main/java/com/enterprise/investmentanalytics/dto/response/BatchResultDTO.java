@@ -0,0 +1,40 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long durationMs;
+    private List<ItemResult> results; // In the order the ids were submitted
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private UUID id;
+        private boolean success;
+        private String status; // Request status after processing
+        private String message;
+
+        public static ItemResult ok(UUID id, String status) {
+            return ItemResult.builder().id(id).success(true).status(status).build();
+        }
+
+        public static ItemResult failed(UUID id, String message) {
+            return ItemResult.builder().id(id).success(false).message(message).build();
+        }
+    }
+}
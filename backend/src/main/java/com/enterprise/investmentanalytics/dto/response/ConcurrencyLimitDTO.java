@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitDTO {
+    private String name;
+    private Double limit; // Current adaptive limit on in-flight requests
+    private Integer minLimit;
+    private Integer maxLimit;
+    private Integer inFlight;
+    private Long accepted;
+    private Long rejected; // Shed with 429
+    private Long latencyThresholdMs; // Slower requests shrink the limit
+    private Double avgLatencyMs; // Exponentially weighted
+}
@@ -0,0 +1,42 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositReconciliationDTO {
+    private int statementLines; // Data lines read from the statement
+    private int creditLines; // Lines with a positive credit amount
+    private int pendingRequests; // PENDING deposits indexed for matching
+    private List<StatementMatch> matched;
+    private List<StatementMatch> ambiguous;
+    private List<StatementMatch> unmatched;
+    private int approved; // Exact matches approved when autoApprove was requested
+    private Map<String, String> approvalFailures; // Deposit request id -> error message
+    private long durationMs;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatementMatch {
+        private int lineNumber;
+        private LocalDate date;
+        private BigDecimal amount;
+        private String description;
+        private List<UUID> depositRequestIds; // One id for a match, candidates for an ambiguous line
+        private String userId; // Business id of the matched client
+        private String reason;
+    }
+}
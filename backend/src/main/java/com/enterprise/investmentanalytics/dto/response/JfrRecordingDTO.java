@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingDTO {
+    private long id;
+    private String profile; // default or profile
+    private int durationSeconds;
+    private String status; // RUNNING, COMPLETED, FAILED
+    private LocalDateTime startedAt;
+    private LocalDateTime endsAt;
+    private Long sizeBytes; // Set once COMPLETED
+}
@@ -0,0 +1,27 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceJobDTO {
+    private String id;
+    private String type; // e.g. PERMANENT_DELETE_USER
+    private String target; // Entity the job works on
+    private String requestedBy;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String currentStep;
+    private Map<String, Long> progress; // Rows processed per step/table
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,39 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayoutWindowForecastDTO {
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+    private boolean windowOpen;
+    private String windowNote; // Note stamped on payout requests generated for this window
+    private int eligibleClients;
+    private BigDecimal totalLiability; // Sum of withdrawable availableProfit of FIXED portfolios
+    private long pendingPayoutCount;
+    private BigDecimal pendingPayoutAmount;
+    private List<ClientLiability> clients;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClientLiability {
+        private UUID clientId;
+        private String userId;
+        private String name;
+        private BigDecimal availableProfit;
+        private boolean alreadyRequested; // Skipped on generation (open payout or already generated)
+    }
+}
@@ -0,0 +1,21 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitDryRunAccrualDTO {
+    private String userId; // Business id, e.g. SM0001
+    private String name;
+    private String profitMode;
+    private BigDecimal eligibleCapital;
+    private BigDecimal ratePercent; // Effective rate for one accrual interval
+    private BigDecimal profitAmount;
+}
@@ -0,0 +1,30 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitDryRunDTO {
+    private String cycleMonth;
+    private LocalDateTime runTime; // Moment the run was evaluated for
+    private int clients; // Active clients evaluated
+    private int accruing;
+    private int skipped;
+    private BigDecimal totalProfit;
+    private BigDecimal totalEligibleCapital;
+    private Map<String, Long> countByMode; // FIXED / COMPOUNDING
+    private Map<String, BigDecimal> profitByMode;
+    private Map<String, Long> skipReasons; // e.g. NO_INVESTMENT -> 3
+    private List<ProfitDryRunAccrualDTO> largestAccruals;
+    private long durationMs;
+}
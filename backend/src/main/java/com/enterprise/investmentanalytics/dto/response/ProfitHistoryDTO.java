@@ -22,4 +22,5 @@ public class ProfitHistoryDTO {
     private BigDecimal closingBalance;
     private String profitMode;
     private boolean isProrated;
+    private long accrualCount; // Accrual ticks folded into this month
 }
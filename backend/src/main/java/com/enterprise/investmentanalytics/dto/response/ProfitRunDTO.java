@@ -0,0 +1,30 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfitRunDTO {
+    private String id;
+    private String trigger; // scheduler or manual
+    private String cycleMonth; // e.g. 2026-10
+    private String status; // RUNNING, COMPLETED, FAILED
+    private int total; // Active clients in the run
+    private int processed; // Clients credited with profit
+    private int skipped; // Clients with nothing due
+    private int failed;
+    private double throughputPerSecond; // Clients handled per second so far
+    private Long etaSeconds; // Null once finished or before the first client
+    private String currentPartition; // Monthly partition the accruals are written to
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+}
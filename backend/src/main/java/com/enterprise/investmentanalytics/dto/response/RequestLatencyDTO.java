@@ -0,0 +1,29 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestLatencyDTO {
+    private String endpoint; // HTTP method and route template
+    private String role; // ADMIN, MEDIATOR, CLIENT or ANONYMOUS
+    private LocalDateTime intervalStart;
+    private Long requests;
+    private Double meanMs;
+    private Double p50Ms;
+    private Double p90Ms;
+    private Double p99Ms;
+    private Double p999Ms;
+    private Double maxMs;
+    private Long p50Bytes; // Response body size
+    private Long p99Bytes;
+    private Long maxBytes;
+    private Boolean overSlo; // p99 above app.request-timing.slo-ms
+}
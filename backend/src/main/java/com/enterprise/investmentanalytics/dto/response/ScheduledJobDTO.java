@@ -0,0 +1,20 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobDTO {
+    private String name;
+    private boolean running;
+    private LocalDateTime lastTriggeredAt; // Includes triggers that found nothing due
+    private List<ScheduledJobRunDTO> runs; // Newest first
+}
@@ -0,0 +1,21 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobRunDTO {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs;
+    private String outcome; // RUNNING, SUCCEEDED, FAILED, SKIPPED_OVERLAP
+    private Long itemsProcessed; // Null when the job does not count items
+    private String error;
+}
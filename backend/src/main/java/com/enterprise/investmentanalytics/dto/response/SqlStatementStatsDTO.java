@@ -0,0 +1,24 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatementStatsDTO {
+    private String endpoint; // HTTP method and route template
+    private Integer budget;
+    private Long requests;
+    private Double avgStatements;
+    private Integer maxStatements;
+    private Long overBudget; // Requests that ran more statements than the budget
+    private Long possibleNPlusOne; // Requests that repeated one statement at least app.sql-budget.repeat-threshold times
+    private String lastRepeatedSql;
+    private LocalDateTime lastOverBudgetAt;
+}
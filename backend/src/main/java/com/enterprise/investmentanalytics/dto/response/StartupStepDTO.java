@@ -0,0 +1,18 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupStepDTO {
+    private String name; // e.g. spring.beans.instantiate, spring.context.refresh
+    private String beanName; // Null for steps that are not a bean creation
+    private Long startOffsetMs; // From the start of the application
+    private Long durationMs; // Including nested steps (dependencies created on the way)
+    private Long selfMs; // Excluding nested steps
+}
@@ -0,0 +1,25 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupTimelineDTO {
+    private LocalDateTime startedAt;
+    private Long readyMs; // Until the application accepted traffic
+    private Long budgetMs;
+    private Boolean withinBudget;
+    private Integer beansCreated;
+    private Integer stepsRecorded;
+    private Boolean truncated; // The step buffer filled up before startup finished
+    private List<StartupStepDTO> phases;
+    private List<StartupStepDTO> slowestBeans; // By self time
+}
@@ -0,0 +1,18 @@
+package com.enterprise.investmentanalytics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDTO {
+    private List<TransactionResponse> items; // Newest first
+    private String nextCursor; // Pass back as ?cursor= for the next page; null on the last page
+    private boolean hasMore;
+}
@@ -0,0 +1,49 @@
+package com.enterprise.investmentanalytics.event;
+
+import com.enterprise.investmentanalytics.model.entity.User;
+import com.enterprise.investmentanalytics.model.enums.Role;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published when a change to users or portfolios alters what the client
+ * summary lists show: balances, profit settings, statuses or mediator
+ * assignments. Consumers act after the surrounding transaction commits.
+ *
+ * @param clientIds   the users that changed; null when the change can touch any client
+ * @param mediatorIds the mediators of those users, including a newly assigned one
+ * @param reason      what happened, for logs
+ */
+public record ClientDataChangedEvent(Set<UUID> clientIds, Set<UUID> mediatorIds, String reason) {
+
+    public static ClientDataChangedEvent of(String reason, User user) {
+        return of(reason, List.of(user));
+    }
+
+    public static ClientDataChangedEvent of(String reason, Collection<User> users) {
+        Set<UUID> clientIds = new HashSet<>();
+        Set<UUID> mediatorIds = new HashSet<>();
+        for (User user : users) {
+            clientIds.add(user.getId());
+            if (user.getRole() == Role.MEDIATOR) {
+                mediatorIds.add(user.getId()); // Their name shows on their clients' summaries
+            }
+            if (user.getMediator() != null) {
+                mediatorIds.add(user.getMediator().getId());
+            }
+        }
+        return new ClientDataChangedEvent(clientIds, mediatorIds, reason);
+    }
+
+    public static ClientDataChangedEvent all(String reason) {
+        return new ClientDataChangedEvent(null, Set.of(), reason);
+    }
+
+    public boolean isEverything() {
+        return clientIds == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.enterprise.investmentanalytics.exception;
+
+// Invalid request parameter; answered with 400 instead of the generic 500
+public class BadRequestException extends IllegalArgumentException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.enterprise.investmentanalytics.exception;
+
+import lombok.Getter;
+
+// Rejected by load shedding; the client should retry after retryAfterSeconds
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
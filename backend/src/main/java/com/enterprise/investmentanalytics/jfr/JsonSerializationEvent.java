@@ -0,0 +1,26 @@
+package com.enterprise.investmentanalytics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.enterprise.investmentanalytics.JsonSerialization")
+@Label("JSON Serialization")
+@Description("Writing a JSON response body")
+@Category({ "Investment Analytics", "Web" })
+@Threshold("10 ms")
+@StackTrace(false)
+public class JsonSerializationEvent extends Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
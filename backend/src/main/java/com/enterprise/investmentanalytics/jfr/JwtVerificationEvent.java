@@ -0,0 +1,22 @@
+package com.enterprise.investmentanalytics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.enterprise.investmentanalytics.JwtVerification")
+@Label("JWT Verification")
+@Description("Parsing a bearer token, loading its user and validating it")
+@Category({ "Investment Analytics", "Security" })
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Authenticated")
+    public boolean authenticated;
+
+    @Label("Error")
+    public String error; // Exception type when the token was rejected with one
+}
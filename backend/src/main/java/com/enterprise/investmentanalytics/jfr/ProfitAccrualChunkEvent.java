@@ -0,0 +1,31 @@
+package com.enterprise.investmentanalytics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.enterprise.investmentanalytics.ProfitAccrualChunk")
+@Label("Profit Accrual Chunk")
+@Description("A consecutive group of clients accrued by a profit run")
+@Category({ "Investment Analytics", "Profit" })
+@StackTrace(false)
+public class ProfitAccrualChunkEvent extends Event {
+
+    @Label("Chunk")
+    public int chunk;
+
+    @Label("Clients")
+    public int clients;
+
+    @Label("Credited")
+    public int credited;
+
+    @Label("Skipped")
+    public int skipped;
+
+    @Label("Failed")
+    public int failed;
+}
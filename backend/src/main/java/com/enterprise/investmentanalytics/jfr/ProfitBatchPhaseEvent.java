@@ -0,0 +1,28 @@
+package com.enterprise.investmentanalytics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.enterprise.investmentanalytics.ProfitBatchPhase")
+@Label("Profit Batch Phase")
+@Description("One phase of a profit calculation run")
+@Category({ "Investment Analytics", "Profit" })
+@StackTrace(false)
+public class ProfitBatchPhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase; // settings, clients, accrual
+
+    @Label("Trigger")
+    public String trigger;
+
+    @Label("Cycle Month")
+    public String cycleMonth;
+
+    @Label("Items")
+    public int items;
+}
@@ -0,0 +1,28 @@
+package com.enterprise.investmentanalytics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.enterprise.investmentanalytics.S3Call")
+@Label("S3 Call")
+@Description("A call through the S3 client")
+@Category({ "Investment Analytics", "S3" })
+public class S3CallEvent extends Event {
+
+    @Label("Operation")
+    public String operation; // putObject, generatePresignedUrl
+
+    @Label("Key")
+    public String key;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
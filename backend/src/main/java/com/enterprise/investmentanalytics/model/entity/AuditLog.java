@@ -1,5 +1,6 @@
 package com.enterprise.investmentanalytics.model.entity;
 
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "actor_user_id", length = 10)
@@ -0,0 +1,53 @@
+package com.enterprise.investmentanalytics.model.entity;
+
+import com.enterprise.investmentanalytics.model.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * End-of-day copy of a client's portfolio balances, written for all clients in
+ * one statement by BalanceHistoryService.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "balance_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_balance_snapshot_day", columnNames = { "user_id", "snapshot_date" })
+}, indexes = {
+        @Index(name = "idx_balance_snapshot_series", columnList = "user_id, snapshot_date, balance")
+})
+public class BalanceSnapshot {
+
+    @Id
+    @UuidV7
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "total_invested", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalInvested;
+
+    @Column(name = "available_profit", nullable = false, precision = 19, scale = 4)
+    private BigDecimal availableProfit;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal balance; // Portfolio total value at the end of the day
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.enterprise.investmentanalytics.model.entity;
 
 import com.enterprise.investmentanalytics.model.enums.RequestStatus;
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class DepositRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -0,0 +1,58 @@
+package com.enterprise.investmentanalytics.model.entity;
+
+import com.enterprise.investmentanalytics.model.enums.TransactionType;
+import com.enterprise.investmentanalytics.model.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per user, month and transaction type totals of ledger rows that were moved to
+ * transactions_archive by partition archival or profit compaction. Together
+ * with the live transactions table they give the complete ledger totals
+ * without scanning archived months.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ledger_period_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_ledger_summary_period", columnNames = { "user_id", "year", "month", "type" })
+})
+public class LedgerPeriodSummary {
+
+    @Id
+    @UuidV7
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    // No foreign key: summaries outlive the partitions they were built from
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,5 +1,6 @@
 package com.enterprise.investmentanalytics.model.entity;
 
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class MonthlyProfitHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
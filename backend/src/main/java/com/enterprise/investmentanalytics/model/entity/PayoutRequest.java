@@ -1,6 +1,7 @@
 package com.enterprise.investmentanalytics.model.entity;
 
 import com.enterprise.investmentanalytics.model.enums.WithdrawalStatus;
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class PayoutRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -59,4 +60,15 @@ public class PayoutRequest {
 
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
+
+    // Bank transfer export batch that claimed this request (null until exported)
+    @Column(name = "export_batch_id", length = 36)
+    private String exportBatchId;
+
+    @Column(name = "exported_at")
+    private LocalDateTime exportedAt;
+
+    // When the export batch claimed it; a claim never stamped exportedAt is recovered once stale
+    @Column(name = "export_claimed_at")
+    private LocalDateTime exportClaimedAt;
 }
@@ -0,0 +1,73 @@
+package com.enterprise.investmentanalytics.model.entity;
+
+import com.enterprise.investmentanalytics.model.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * All profit accruals of one client in one profit cycle month, folded into a
+ * single row as they are written. Opening balance is taken from the first
+ * accrual and closing balance, rate and mode from the last one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "profit_period_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_profit_rollup_period", columnNames = { "user_id", "year", "month" })
+})
+public class ProfitPeriodRollup {
+
+    @Id
+    @UuidV7
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Column(name = "accrual_count", nullable = false)
+    private long accrualCount;
+
+    @Column(name = "total_profit", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalProfit;
+
+    @Column(name = "opening_balance", nullable = false, precision = 19, scale = 4)
+    private BigDecimal openingBalance;
+
+    @Column(name = "closing_balance", nullable = false, precision = 19, scale = 4)
+    private BigDecimal closingBalance;
+
+    @Column(name = "profit_percentage", precision = 5, scale = 2)
+    private BigDecimal profitPercentage;
+
+    @Column(name = "profit_mode")
+    private String profitMode;
+
+    @Column(name = "is_prorated", nullable = false)
+    private boolean isProrated;
+
+    @Column(name = "first_accrual_at")
+    private LocalDateTime firstAccrualAt;
+
+    @Column(name = "last_accrual_at")
+    private LocalDateTime lastAccrualAt;
+
+    // Set once the month's raw history rows were moved to the archive
+    @Column(name = "compacted_at")
+    private LocalDateTime compactedAt;
+}
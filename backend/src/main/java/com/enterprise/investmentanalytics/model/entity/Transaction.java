@@ -1,6 +1,7 @@
 package com.enterprise.investmentanalytics.model.entity;
 
 import com.enterprise.investmentanalytics.model.enums.TransactionType;
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,14 +19,14 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "transactions", indexes = {
-        @Index(name = "idx_transactions_user_id", columnList = "user_id"),
+        @Index(name = "idx_transactions_user_created", columnList = "user_id, created_at"),
         @Index(name = "idx_transactions_type", columnList = "type"),
         @Index(name = "idx_transactions_created_at", columnList = "created_at")
 })
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
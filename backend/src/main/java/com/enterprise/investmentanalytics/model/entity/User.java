@@ -2,6 +2,7 @@ package com.enterprise.investmentanalytics.model.entity;
 
 import com.enterprise.investmentanalytics.model.enums.Role;
 import com.enterprise.investmentanalytics.model.enums.UserStatus;
+import com.enterprise.investmentanalytics.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +28,7 @@ import java.util.UUID;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id; // Internal primary key - never exposed
 
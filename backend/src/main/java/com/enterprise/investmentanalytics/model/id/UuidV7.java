@@ -0,0 +1,19 @@
+package com.enterprise.investmentanalytics.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID primary key that is generated as a time-ordered UUIDv7.
+ * Consecutive inserts get increasing keys, so new rows land at the end of the
+ * InnoDB clustered index instead of at random pages.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
@@ -0,0 +1,80 @@
+package com.enterprise.investmentanalytics.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * RFC 9562 UUIDv7: 48-bit Unix millisecond timestamp, version, a 12-bit counter
+ * that keeps ids from the same millisecond increasing, then 62 random bits.
+ * Hibernate stores UUIDs most significant byte first, so BINARY(16) order
+ * follows creation time.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private static long lastMillis = -1;
+    private static int counter;
+
+    public UuidV7Generator(UuidV7 config, Member idMember, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7Generator.class) {
+            millis = System.currentTimeMillis();
+            if (millis > lastMillis) {
+                lastMillis = millis;
+                counter = RANDOM.nextInt(MAX_COUNTER / 2); // Random start leaves room to count up
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                // Counter exhausted (or clock moved back): borrow the next millisecond
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        return build(millis, sequence, RANDOM.nextLong());
+    }
+
+    /**
+     * A v7 id for a past instant, used when rekeying existing rows so their new
+     * keys follow their original creation order.
+     */
+    public static UUID forTimestamp(long epochMillis) {
+        return build(epochMillis, RANDOM.nextInt(MAX_COUNTER + 1), RANDOM.nextLong());
+    }
+
+    public static boolean isV7(UUID uuid) {
+        return uuid.version() == 7;
+    }
+
+    private static UUID build(long millis, int sequence, long random) {
+        long msb = (millis & 0xFFFFFFFFFFFFL) << 16 | 0x7000L | (sequence & MAX_COUNTER);
+        long lsb = (random & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // IETF variant
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,42 @@
+package com.enterprise.investmentanalytics.repository;
+
+import com.enterprise.investmentanalytics.dto.projection.BalancePoint;
+import com.enterprise.investmentanalytics.model.entity.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, UUID> {
+
+    // Range scan of idx_balance_snapshot_series; the index covers every selected column
+    @Query("SELECT new com.enterprise.investmentanalytics.dto.projection.BalancePoint(s.snapshotDate, s.balance) "
+            + "FROM BalanceSnapshot s WHERE s.userId = :userId AND s.snapshotDate BETWEEN :from AND :to "
+            + "ORDER BY s.snapshotDate")
+    List<BalancePoint> findSeries(@Param("userId") UUID userId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // Snapshots every portfolio in one statement; re-running the same day overwrites it
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO balance_snapshots "
+            + "(id, user_id, snapshot_date, total_invested, available_profit, balance, created_at) "
+            + "SELECT UUID_TO_BIN(UUID(), 1), p.user_id, :day, COALESCE(p.total_invested, 0), "
+            + "COALESCE(p.available_profit, 0), COALESCE(p.total_value, 0), NOW(6) FROM portfolios p "
+            + "ON DUPLICATE KEY UPDATE total_invested = VALUES(total_invested), "
+            + "available_profit = VALUES(available_profit), balance = VALUES(balance), "
+            + "created_at = VALUES(created_at)", nativeQuery = true)
+    int snapshotAll(@Param("day") LocalDate day);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM balance_snapshots WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
+}
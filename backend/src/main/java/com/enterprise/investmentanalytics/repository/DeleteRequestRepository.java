@@ -1,8 +1,11 @@
 package com.enterprise.investmentanalytics.repository;
 
+import com.enterprise.investmentanalytics.dto.projection.DeleteRequestRow;
 import com.enterprise.investmentanalytics.model.entity.DeleteRequest;
 import com.enterprise.investmentanalytics.model.enums.DeleteRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,9 +13,16 @@ import java.util.UUID;
 
 @Repository
 public interface DeleteRequestRepository extends JpaRepository<DeleteRequest, UUID> {
-    List<DeleteRequest> findByStatus(DeleteRequestStatus status);
+    List<DeleteRequest> findByEntityId(UUID entityId);
 
-    List<DeleteRequest> findByRequestedById(UUID userId);
+    // The target user is joined on entityId; its columns are null once that user is gone
+    String ROW = "SELECT new com.enterprise.investmentanalytics.dto.projection.DeleteRequestRow(d.id, d.reason, "
+            + "d.status, d.createdAt, t.id, t.name, t.email, t.role, r.id, r.name, r.email, r.role) "
+            + "FROM DeleteRequest d LEFT JOIN d.requestedBy r LEFT JOIN User t ON t.id = d.entityId ";
 
-    List<DeleteRequest> findByEntityId(UUID entityId);
+    @Query(ROW + "WHERE d.status = :status")
+    List<DeleteRequestRow> findRowsByStatus(@Param("status") DeleteRequestStatus status);
+
+    @Query(ROW + "WHERE r.id = :requesterId")
+    List<DeleteRequestRow> findRowsByRequestedById(@Param("requesterId") UUID requesterId);
 }
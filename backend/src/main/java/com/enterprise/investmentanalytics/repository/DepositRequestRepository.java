@@ -1,18 +1,53 @@
 package com.enterprise.investmentanalytics.repository;
 
+import com.enterprise.investmentanalytics.dto.response.DepositRequestDTO;
 import com.enterprise.investmentanalytics.model.entity.DepositRequest;
 import com.enterprise.investmentanalytics.model.enums.RequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface DepositRequestRepository extends JpaRepository<DepositRequest, UUID> {
-    List<DepositRequest> findByUserOrderByCreatedAtDesc(com.enterprise.investmentanalytics.model.entity.User user);
+    String DTO_ROW = "SELECT new com.enterprise.investmentanalytics.dto.response.DepositRequestDTO(d.id, u.id, "
+            + "u.userId, u.name, u.email, d.amount, d.proofImagePath, d.userNote, d.adminNote, d.status, "
+            + "d.createdAt, d.updatedAt) FROM DepositRequest d JOIN d.user u ";
 
-    List<DepositRequest> findByStatusOrderByCreatedAtDesc(RequestStatus status);
+    @Query(DTO_ROW + "ORDER BY d.createdAt DESC")
+    List<DepositRequestDTO> findAllDTOs();
 
-    List<DepositRequest> findAllByOrderByCreatedAtDesc();
+    @Query(DTO_ROW + "WHERE d.status = :status ORDER BY d.createdAt DESC")
+    List<DepositRequestDTO> findDTOsByStatus(@Param("status") RequestStatus status);
+
+    @Query(DTO_ROW + "WHERE u.id = :userId ORDER BY d.createdAt DESC")
+    List<DepositRequestDTO> findDTOsByUserId(@Param("userId") UUID userId);
+
+    // Loads the users in the same query; used to build the reconciliation index
+    @Query("SELECT d FROM DepositRequest d JOIN FETCH d.user WHERE d.status = :status")
+    List<DepositRequest> findByStatusWithUser(@Param("status") RequestStatus status);
+
+    @Query("SELECT d FROM DepositRequest d JOIN FETCH d.user WHERE d.id IN :ids")
+    List<DepositRequest> findAllWithUserByIdIn(@Param("ids") java.util.Collection<UUID> ids);
+
+    // --- User deactivation / purge ---
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE DepositRequest d SET d.status = com.enterprise.investmentanalytics.model.enums.RequestStatus.CANCELLED, "
+            + "d.adminNote = :note, d.updatedAt = :now WHERE d.user.id = :userId "
+            + "AND d.status = com.enterprise.investmentanalytics.model.enums.RequestStatus.PENDING")
+    int cancelPendingByUserId(@Param("userId") UUID userId, @Param("note") String note,
+            @Param("now") java.time.LocalDateTime now);
+
+    // Deletes at most :limit rows of the user; called repeatedly so each chunk commits on its own
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM deposit_requests WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
 }
@@ -0,0 +1,26 @@
+package com.enterprise.investmentanalytics.repository;
+
+import com.enterprise.investmentanalytics.model.entity.LedgerPeriodSummary;
+import com.enterprise.investmentanalytics.model.enums.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Repository
+public interface LedgerPeriodSummaryRepository extends JpaRepository<LedgerPeriodSummary, UUID> {
+
+    // Summaries only hold rows already removed from the hot ledger, so no period filter is needed
+    @Query("SELECT SUM(s.totalAmount) FROM LedgerPeriodSummary s WHERE s.userId = :userId AND s.type = :type")
+    BigDecimal sumAmountByUserIdAndType(@Param("userId") UUID userId, @Param("type") TransactionType type);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM ledger_period_summaries WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
+}
@@ -4,7 +4,11 @@ import com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +26,16 @@ public interface MonthlyProfitHistoryRepository extends JpaRepository<MonthlyPro
     Optional<MonthlyProfitHistory> findFirstByUserIdAndMonthAndYear(UUID userId, int month, int year);
 
     List<MonthlyProfitHistory> findAllByUserIdAndMonthAndYear(UUID userId, int month, int year);
+
+    // Deletes at most :limit rows of the user; called repeatedly so each chunk commits on its own
+    // (monthly_profit_history.user_id holds the business id, e.g. SM0001)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM monthly_profit_history WHERE user_id = :businessUserId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("businessUserId") String businessUserId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM monthly_profit_history_archive WHERE user_id = :businessUserId LIMIT :limit", nativeQuery = true)
+    int deleteArchivedChunkByUserId(@Param("businessUserId") String businessUserId, @Param("limit") int limit);
 }
@@ -1,19 +1,106 @@
 package com.enterprise.investmentanalytics.repository;
 
+import com.enterprise.investmentanalytics.dto.projection.BankTransferRow;
+import com.enterprise.investmentanalytics.dto.response.PayoutRequestDTO;
 import com.enterprise.investmentanalytics.model.entity.PayoutRequest;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.model.enums.WithdrawalStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PayoutRequestRepository extends JpaRepository<PayoutRequest, UUID> {
     List<PayoutRequest> findByUserOrderByCreatedAtDesc(User user);
 
-    List<PayoutRequest> findAllByOrderByCreatedAtDesc();
+    List<PayoutRequest> findByStatusAndNote(WithdrawalStatus status, String note);
 
-    List<PayoutRequest> findByStatusOrderByCreatedAtDesc(WithdrawalStatus status);
+    String DTO_ROW = "SELECT new com.enterprise.investmentanalytics.dto.response.PayoutRequestDTO(p.id, u.userId, "
+            + "u.name, u.email, p.amount, p.note, p.status, p.rejectionReason, p.processedBy, p.createdAt, "
+            + "p.processedAt) FROM PayoutRequest p JOIN p.user u ";
+
+    @Query(DTO_ROW + "ORDER BY p.createdAt DESC")
+    List<PayoutRequestDTO> findAllDTOs();
+
+    @Query(DTO_ROW + "WHERE p.status = :status ORDER BY p.createdAt DESC")
+    List<PayoutRequestDTO> findDTOsByStatus(@Param("status") WithdrawalStatus status);
+
+    // Users that already have an open payout or one generated for the given window
+    @Query("SELECT DISTINCT p.user.id FROM PayoutRequest p WHERE p.status = :status OR p.note = :note")
+    List<UUID> findUserIdsWithStatusOrNote(@Param("status") WithdrawalStatus status, @Param("note") String note);
+
+    @Query("SELECT COUNT(p), COALESCE(SUM(p.amount), 0) FROM PayoutRequest p WHERE p.status = :status")
+    List<Object[]> countAndSumByStatus(@Param("status") WithdrawalStatus status);
+
+    @Query("SELECT p FROM PayoutRequest p JOIN FETCH p.user WHERE p.id IN :ids")
+    List<PayoutRequest> findAllWithUserByIdIn(@Param("ids") java.util.Collection<UUID> ids);
+
+    // --- Bank transfer export ---
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE payout_requests SET export_batch_id = :batchId, export_claimed_at = NOW(6) "
+            + "WHERE status = 'APPROVED' "
+            + "AND export_batch_id IS NULL LIMIT :limit", nativeQuery = true)
+    int claimForExport(@Param("batchId") String batchId, @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.enterprise.investmentanalytics.dto.projection.BankTransferRow(p.id, 'PAYOUT', u.userId, "
+            + "u.name, u.bankName, u.accountNumber, p.amount, p.processedAt) "
+            + "FROM PayoutRequest p JOIN p.user u WHERE p.exportBatchId = :batchId ORDER BY p.processedAt")
+    Stream<BankTransferRow> streamByExportBatchId(@Param("batchId") String batchId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PayoutRequest p SET p.exportedAt = :exportedAt WHERE p.exportBatchId = :batchId")
+    int markExported(@Param("batchId") String batchId, @Param("exportedAt") LocalDateTime exportedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PayoutRequest p SET p.exportBatchId = NULL, p.exportClaimedAt = NULL "
+            + "WHERE p.exportBatchId = :batchId AND p.exportedAt IS NULL")
+    int releaseExportBatch(@Param("batchId") String batchId);
+
+    // Rows left out of their batch's file go back to the export queue
+    @Modifying
+    @Transactional
+    @Query("UPDATE PayoutRequest p SET p.exportBatchId = NULL, p.exportClaimedAt = NULL "
+            + "WHERE p.id IN :ids AND p.exportedAt IS NULL")
+    int releaseFromExport(@Param("ids") java.util.Collection<UUID> ids);
+
+    // Batches claimed before the cutoff and never stamped; claims made before claim times were kept count too
+    @Query(value = "SELECT DISTINCT export_batch_id FROM payout_requests WHERE export_batch_id IS NOT NULL "
+            + "AND exported_at IS NULL AND (export_claimed_at IS NULL OR export_claimed_at < :cutoff)",
+            nativeQuery = true)
+    List<String> findStaleExportBatchIds(@Param("cutoff") LocalDateTime cutoff);
+
+    // --- User deactivation / purge ---
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PayoutRequest p SET p.status = com.enterprise.investmentanalytics.model.enums.WithdrawalStatus.CANCELLED, "
+            + "p.rejectionReason = :reason, p.updatedAt = :now WHERE p.user.id = :userId "
+            + "AND p.status = com.enterprise.investmentanalytics.model.enums.WithdrawalStatus.PENDING")
+    int cancelPendingByUserId(@Param("userId") UUID userId, @Param("reason") String reason,
+            @Param("now") LocalDateTime now);
+
+    // Deletes at most :limit rows of the user; called repeatedly so each chunk commits on its own
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM payout_requests WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
 }
@@ -21,4 +21,22 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, UUID> {
 
     @org.springframework.data.jpa.repository.Query("SELECT p FROM Portfolio p JOIN FETCH p.user u LEFT JOIN FETCH u.mediator")
     java.util.List<Portfolio> findAllWithDetails();
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.enterprise.investmentanalytics.dto.projection.PortfolioRow("
+            + "p.id, u.id, u.userId, u.name, u.email, p.totalValue, p.totalInvested, p.availableProfit, "
+            + "p.totalProfitEarned, p.profitPercentage, p.profitMode, p.profitModeEffectiveDate, p.profitAccrualStatus, "
+            + "p.isProrationEnabled, p.allowEarlyExit, p.createdAt, p.updatedAt) FROM Portfolio p JOIN p.user u")
+    java.util.List<com.enterprise.investmentanalytics.dto.projection.PortfolioRow> findAllRows();
+
+    // Portfolios of active clients holding withdrawable profit for the given mode
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Portfolio p JOIN FETCH p.user u WHERE p.profitMode = :mode "
+            + "AND u.status = com.enterprise.investmentanalytics.model.enums.UserStatus.ACTIVE AND u.isDeleted = false "
+            + "AND p.availableProfit > 0")
+    java.util.List<Portfolio> findWithdrawableByProfitMode(
+            @org.springframework.data.repository.query.Param("mode") com.enterprise.investmentanalytics.model.enums.ProfitMode mode);
+
+    // Portfolios of several clients in one query, for batch request processing
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Portfolio p JOIN FETCH p.user u WHERE u.id IN :userIds")
+    java.util.List<Portfolio> findByUserIdIn(
+            @org.springframework.data.repository.query.Param("userIds") java.util.Collection<UUID> userIds);
 }
@@ -0,0 +1,57 @@
+package com.enterprise.investmentanalytics.repository;
+
+import com.enterprise.investmentanalytics.model.entity.ProfitPeriodRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProfitPeriodRollupRepository extends JpaRepository<ProfitPeriodRollup, UUID> {
+
+    List<ProfitPeriodRollup> findByUserIdOrderByYearDescMonthDesc(UUID userId);
+
+    Optional<ProfitPeriodRollup> findByUserIdAndYearAndMonth(UUID userId, int year, int month);
+
+    // At most 12 rows, read from uq_profit_rollup_period
+    List<ProfitPeriodRollup> findByUserIdAndYearOrderByMonthAsc(UUID userId, int year);
+
+    boolean existsByUserIdAndYearAndMonth(UUID userId, int year, int month);
+
+    // Clients already accrued in a month, read once per dry run instead of per client
+    @Query("SELECT r.userId FROM ProfitPeriodRollup r WHERE r.year = :year AND r.month = :month")
+    List<UUID> findUserIdsByYearAndMonth(@Param("year") int year, @Param("month") int month);
+
+    // Folds one accrual into its month: the first accrual creates the row and fixes the
+    // opening balance, later ones add to the totals and move the closing values forward
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO profit_period_rollups "
+            + "(id, user_id, year, month, accrual_count, total_profit, opening_balance, closing_balance, "
+            + "profit_percentage, profit_mode, is_prorated, first_accrual_at, last_accrual_at) "
+            + "VALUES (UUID_TO_BIN(UUID(), 1), UUID_TO_BIN(:userId), :year, :month, 1, :profit, :opening, :closing, "
+            + ":percentage, :mode, :prorated, :accruedAt, :accruedAt) "
+            + "ON DUPLICATE KEY UPDATE accrual_count = accrual_count + 1, "
+            + "total_profit = total_profit + VALUES(total_profit), closing_balance = VALUES(closing_balance), "
+            + "profit_percentage = VALUES(profit_percentage), profit_mode = VALUES(profit_mode), "
+            + "is_prorated = is_prorated OR VALUES(is_prorated), last_accrual_at = VALUES(last_accrual_at)",
+            nativeQuery = true)
+    int recordAccrual(@Param("userId") String userId, @Param("year") int year, @Param("month") int month,
+            @Param("profit") BigDecimal profit, @Param("opening") BigDecimal opening,
+            @Param("closing") BigDecimal closing, @Param("percentage") BigDecimal percentage,
+            @Param("mode") String mode, @Param("prorated") boolean prorated,
+            @Param("accruedAt") LocalDateTime accruedAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM profit_period_rollups WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
+}
@@ -2,24 +2,62 @@ package com.enterprise.investmentanalytics.repository;
 
 import com.enterprise.investmentanalytics.model.entity.Transaction;
 import com.enterprise.investmentanalytics.model.enums.TransactionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
-    List<Transaction> findByUserId(UUID userId);
+    @Query("SELECT new com.enterprise.investmentanalytics.dto.projection.TransactionRow(t.id, t.type, t.amount, "
+            + "t.description, t.messageContent, t.screenshotPath, t.createdAt) FROM Transaction t "
+            + "WHERE t.user.id = :userId ORDER BY t.createdAt DESC")
+    List<com.enterprise.investmentanalytics.dto.projection.TransactionRow> findRowsByUserId(
+            @Param("userId") UUID userId);
 
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.user.id = :userId AND t.type = :type")
     BigDecimal sumAmountByUserIdAndType(@Param("userId") UUID userId, @Param("type") TransactionType type);
 
-    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.createdAt DESC")
-    List<Transaction> findRecentTransactionsByUserId(@Param("userId") UUID userId);
+    // Bounded by created_at so MySQL only reads the partitions of the live ledger
+    @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.user.id = :userId AND t.type = :type AND t.createdAt >= :from")
+    BigDecimal sumAmountByUserIdAndTypeSince(@Param("userId") UUID userId, @Param("type") TransactionType type,
+            @Param("from") LocalDateTime from);
+
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.createdAt >= :from ORDER BY t.createdAt DESC")
+    List<Transaction> findRecentTransactionsByUserIdSince(@Param("userId") UUID userId,
+            @Param("from") LocalDateTime from, Pageable pageable);
+
+    // Keyset page, newest first, served by idx_transactions_user_created. Rows strictly
+    // after (cursorAt, cursorId) in (created_at DESC, id DESC) order.
+    @Query(value = "SELECT * FROM transactions WHERE user_id = UUID_TO_BIN(:userId) AND type IN (:types) "
+            + "AND created_at >= :from AND created_at < :to AND created_at <= :cursorAt "
+            + "AND (created_at < :cursorAt OR id < UUID_TO_BIN(:cursorId)) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Transaction> findPage(@Param("userId") String userId, @Param("types") List<String> types,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") String cursorId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM transactions_archive WHERE user_id = UUID_TO_BIN(:userId) AND type IN (:types) "
+            + "AND created_at >= :from AND created_at < :to AND created_at <= :cursorAt "
+            + "AND (created_at < :cursorAt OR id < UUID_TO_BIN(:cursorId)) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Transaction> findArchivedPage(@Param("userId") String userId, @Param("types") List<String> types,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") String cursorId,
+            @Param("limit") int limit);
+
+    // Rows of closed months moved out of the partitioned table by PartitionMaintenanceService
+    @Query(value = "SELECT * FROM transactions_archive WHERE user_id = UUID_TO_BIN(:userId) ORDER BY created_at DESC", nativeQuery = true)
+    List<Transaction> findArchivedByUserId(@Param("userId") String userId);
 
     @Query("SELECT t.type, SUM(t.amount) FROM Transaction t WHERE t.user.id = :userId GROUP BY t.type")
     List<Object[]> getTransactionTotalsByType(@Param("userId") UUID userId);
@@ -27,4 +65,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.user.id = :userId AND t.type = 'PROFIT' AND t.createdAt BETWEEN :startDate AND :endDate")
     BigDecimal sumProfitByUserIdAndDateRange(@Param("userId") UUID userId,
             @Param("startDate") java.time.LocalDateTime startDate, @Param("endDate") java.time.LocalDateTime endDate);
+
+    // Deletes at most :limit rows of the user; called repeatedly so each chunk commits on its own
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM transactions WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM transactions_archive WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteArchivedChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
 }
@@ -30,9 +30,6 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findByMediator_Id(UUID mediatorId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT u FROM User u WHERE u.mediator.id = :mediatorId AND u.isDeleted = false")
-    List<User> findAllByMediatorId(@org.springframework.data.repository.query.Param("mediatorId") UUID mediatorId);
-
     List<User> findByRoleAndIsDeletedFalse(Role role);
 
     Optional<User> findByIdAndIsDeletedFalse(UUID id);
@@ -43,8 +40,46 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findByIsDeletedFalse();
 
-    @org.springframework.data.jpa.repository.Query("SELECT u FROM User u LEFT JOIN FETCH u.mediator")
-    List<User> findAllWithMediator();
-
     List<User> findByRoleAndIsDeletedTrue(Role role);
+
+    // --- Read-only list projections ---
+
+    String USER_ROW = "SELECT new com.enterprise.investmentanalytics.dto.projection.UserRow(u.id, u.sequentialId, "
+            + "u.userId, u.name, u.email, u.mobile, u.role, u.status, u.createdAt, u.isDeleted, m.id, m.name) "
+            + "FROM User u LEFT JOIN u.mediator m ";
+
+    String CLIENT_SUMMARY_ROW = "SELECT new com.enterprise.investmentanalytics.dto.projection.ClientSummaryRow("
+            + "u.id, u.name, u.email, u.userId, u.mobile, u.status, u.createdAt, u.updatedAt, m.id, m.name, m.userId, "
+            + "p.id, p.totalInvested, p.availableProfit, p.totalProfitEarned, p.profitPercentage, "
+            + "p.profitAccrualStatus, p.updatedAt) ";
+
+    @org.springframework.data.jpa.repository.Query(USER_ROW)
+    List<com.enterprise.investmentanalytics.dto.projection.UserRow> findAllRows();
+
+    @org.springframework.data.jpa.repository.Query(USER_ROW + "WHERE u.status = :status")
+    List<com.enterprise.investmentanalytics.dto.projection.UserRow> findRowsByStatus(
+            @org.springframework.data.repository.query.Param("status") com.enterprise.investmentanalytics.model.enums.UserStatus status);
+
+    @org.springframework.data.jpa.repository.Query(USER_ROW
+            + "WHERE m.id = :mediatorId AND u.status = :status AND u.isDeleted = false")
+    List<com.enterprise.investmentanalytics.dto.projection.UserRow> findRowsByMediatorIdAndStatus(
+            @org.springframework.data.repository.query.Param("mediatorId") UUID mediatorId,
+            @org.springframework.data.repository.query.Param("status") com.enterprise.investmentanalytics.model.enums.UserStatus status);
+
+    // Clients with or without a portfolio, newest first. The summary queries are called outside a service
+    // transaction (PortfolioService), so they declare their own read-only one to be routed to the replica
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    @org.springframework.data.jpa.repository.Query(CLIENT_SUMMARY_ROW
+            + "FROM User u LEFT JOIN u.mediator m LEFT JOIN Portfolio p ON p.user = u "
+            + "WHERE u.role = :role AND u.isDeleted = :deleted ORDER BY u.createdAt DESC")
+    List<com.enterprise.investmentanalytics.dto.projection.ClientSummaryRow> findClientSummaryRows(
+            @org.springframework.data.repository.query.Param("role") Role role,
+            @org.springframework.data.repository.query.Param("deleted") boolean deleted);
+
+    // Clients of a mediator that have a portfolio
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    @org.springframework.data.jpa.repository.Query(CLIENT_SUMMARY_ROW
+            + "FROM Portfolio p JOIN p.user u JOIN u.mediator m WHERE m.id = :mediatorId ORDER BY u.createdAt DESC")
+    List<com.enterprise.investmentanalytics.dto.projection.ClientSummaryRow> findClientSummaryRowsByMediatorId(
+            @org.springframework.data.repository.query.Param("mediatorId") UUID mediatorId);
 }
@@ -1,20 +1,98 @@
 package com.enterprise.investmentanalytics.repository;
 
-import com.enterprise.investmentanalytics.model.entity.User;
+import com.enterprise.investmentanalytics.dto.projection.BankTransferRow;
+import com.enterprise.investmentanalytics.dto.response.WithdrawalRequestDTO;
 import com.enterprise.investmentanalytics.model.entity.WithdrawalRequest;
 import com.enterprise.investmentanalytics.model.enums.WithdrawalStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface WithdrawalRequestRepository extends JpaRepository<WithdrawalRequest, UUID> {
 
-    List<WithdrawalRequest> findByUserOrderByCreatedAtDesc(User user);
+    String DTO_ROW = "SELECT new com.enterprise.investmentanalytics.dto.response.WithdrawalRequestDTO(w.id, u.userId, "
+            + "u.name, u.email, w.amount, w.status, w.rejectionReason, w.createdAt, w.processedAt) "
+            + "FROM WithdrawalRequest w JOIN w.user u ";
 
-    List<WithdrawalRequest> findByStatusOrderByCreatedAtDesc(WithdrawalStatus status);
+    @Query(DTO_ROW + "ORDER BY w.createdAt DESC")
+    List<WithdrawalRequestDTO> findAllDTOs();
 
-    List<WithdrawalRequest> findAllByOrderByCreatedAtDesc();
+    @Query(DTO_ROW + "WHERE w.status = :status ORDER BY w.createdAt DESC")
+    List<WithdrawalRequestDTO> findDTOsByStatus(@Param("status") WithdrawalStatus status);
+
+    @Query(DTO_ROW + "WHERE u.id = :userId ORDER BY w.createdAt DESC")
+    List<WithdrawalRequestDTO> findDTOsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT w FROM WithdrawalRequest w JOIN FETCH w.user WHERE w.id IN :ids")
+    List<WithdrawalRequest> findAllWithUserByIdIn(@Param("ids") java.util.Collection<UUID> ids);
+
+    // --- Bank transfer export ---
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE withdrawal_requests SET export_batch_id = :batchId, export_claimed_at = NOW(6) "
+            + "WHERE status = 'APPROVED' "
+            + "AND export_batch_id IS NULL LIMIT :limit", nativeQuery = true)
+    int claimForExport(@Param("batchId") String batchId, @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.enterprise.investmentanalytics.dto.projection.BankTransferRow(w.id, 'WITHDRAWAL', u.userId, "
+            + "u.name, u.bankName, u.accountNumber, w.amount, w.processedAt) "
+            + "FROM WithdrawalRequest w JOIN w.user u WHERE w.exportBatchId = :batchId ORDER BY w.processedAt")
+    Stream<BankTransferRow> streamByExportBatchId(@Param("batchId") String batchId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE WithdrawalRequest w SET w.exportedAt = :exportedAt WHERE w.exportBatchId = :batchId")
+    int markExported(@Param("batchId") String batchId, @Param("exportedAt") LocalDateTime exportedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE WithdrawalRequest w SET w.exportBatchId = NULL, w.exportClaimedAt = NULL "
+            + "WHERE w.exportBatchId = :batchId AND w.exportedAt IS NULL")
+    int releaseExportBatch(@Param("batchId") String batchId);
+
+    // Rows left out of their batch's file go back to the export queue
+    @Modifying
+    @Transactional
+    @Query("UPDATE WithdrawalRequest w SET w.exportBatchId = NULL, w.exportClaimedAt = NULL "
+            + "WHERE w.id IN :ids AND w.exportedAt IS NULL")
+    int releaseFromExport(@Param("ids") java.util.Collection<UUID> ids);
+
+    // Batches claimed before the cutoff and never stamped; claims made before claim times were kept count too
+    @Query(value = "SELECT DISTINCT export_batch_id FROM withdrawal_requests WHERE export_batch_id IS NOT NULL "
+            + "AND exported_at IS NULL AND (export_claimed_at IS NULL OR export_claimed_at < :cutoff)",
+            nativeQuery = true)
+    List<String> findStaleExportBatchIds(@Param("cutoff") LocalDateTime cutoff);
+
+    // --- User deactivation / purge ---
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE WithdrawalRequest w SET w.status = com.enterprise.investmentanalytics.model.enums.WithdrawalStatus.CANCELLED, "
+            + "w.rejectionReason = :reason, w.updatedAt = :now WHERE w.user.id = :userId "
+            + "AND w.status = com.enterprise.investmentanalytics.model.enums.WithdrawalStatus.PENDING")
+    int cancelPendingByUserId(@Param("userId") UUID userId, @Param("reason") String reason,
+            @Param("now") LocalDateTime now);
+
+    // Deletes at most :limit rows of the user; called repeatedly so each chunk commits on its own
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM withdrawal_requests WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") byte[] userId, @Param("limit") int limit);
 }
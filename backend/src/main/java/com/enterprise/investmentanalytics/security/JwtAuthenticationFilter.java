@@ -1,5 +1,6 @@
 package com.enterprise.investmentanalytics.security;
 
+import com.enterprise.investmentanalytics.jfr.JwtVerificationEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,6 +38,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        JwtVerificationEvent verification = new JwtVerificationEvent();
+        verification.begin();
         try {
             jwt = authHeader.substring(7);
             userEmail = jwtService.extractUsername(jwt);
@@ -52,13 +55,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authToken.setDetails(
                             new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    verification.authenticated = true;
                 }
             }
         } catch (Exception e) {
             // Log error but don't throw 500. Let the request continue unauthenticated.
             // Spring Security will handle the 403 Forbidden.
             System.err.println("JWT Token validation failed: " + e.getMessage());
+            verification.error = e.getClass().getSimpleName();
         }
+        verification.commit();
         filterChain.doFilter(request, response);
     }
 }
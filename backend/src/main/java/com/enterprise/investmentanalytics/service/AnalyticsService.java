@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,78 +24,40 @@ import java.util.stream.Collectors;
 public class AnalyticsService {
 
         private final TransactionRepository transactionRepository;
-        private final com.enterprise.investmentanalytics.repository.MonthlyProfitHistoryRepository monthlyProfitHistoryRepository;
+        private final ProfitRollupService profitRollupService;
         private final MapperService mapperService;
         private final PortfolioRepository portfolioRepository;
+        private final com.enterprise.investmentanalytics.repository.LedgerPeriodSummaryRepository ledgerPeriodSummaryRepository;
+        private final PartitionMaintenanceService partitionMaintenanceService;
+        private final BalanceHistoryService balanceHistoryService;
 
+        @Transactional(readOnly = true)
         public DashboardMetrics getClientDashboardMetrics(User user) {
                 UUID userId = user.getId();
 
-                BigDecimal totalCredit = transactionRepository.sumAmountByUserIdAndType(userId, TransactionType.CREDIT);
-                BigDecimal totalDebit = transactionRepository.sumAmountByUserIdAndType(userId, TransactionType.DEBIT);
-                BigDecimal totalProfit = transactionRepository.sumAmountByUserIdAndType(userId, TransactionType.PROFIT);
-
-                if (totalCredit == null)
-                        totalCredit = BigDecimal.ZERO;
-                if (totalDebit == null)
-                        totalDebit = BigDecimal.ZERO;
-                if (totalProfit == null)
-                        totalProfit = BigDecimal.ZERO;
+                // Live months are read from the hot partitions only; archived months come from their summaries
+                java.time.LocalDateTime hotFrom = partitionMaintenanceService.hotFrom();
+                BigDecimal totalCredit = ledgerTotal(userId, TransactionType.CREDIT, hotFrom);
+                BigDecimal totalDebit = ledgerTotal(userId, TransactionType.DEBIT, hotFrom);
+                BigDecimal totalProfit = ledgerTotal(userId, TransactionType.PROFIT, hotFrom);
 
                 BigDecimal currentBalance = totalCredit.subtract(totalDebit).add(totalProfit);
 
                 List<TransactionResponse> recentTransactions = transactionRepository
-                                .findRecentTransactionsByUserId(userId)
+                                .findRecentTransactionsByUserIdSince(userId, hotFrom,
+                                                org.springframework.data.domain.PageRequest.of(0, 5))
                                 .stream()
-                                .limit(5)
                                 .map(mapperService::toTransactionResponse)
                                 .collect(Collectors.toList());
 
-                // Fetch finalized history for the current year
+                // One rollup per month of the current year, in calendar order
                 int currentYear = java.time.LocalDate.now().getYear();
-                List<com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory> history = monthlyProfitHistoryRepository
-                                .findByUserIdOrderByYearDescMonthDesc(userId).stream()
-                                .filter(h -> h.getYear() == currentYear)
+                List<Object> profitData = profitRollupService.getRollups(user, currentYear).stream()
+                                .map(r -> (Object) java.util.Map.<String, Object>of(
+                                                "name", java.time.Month.of(r.getMonth()).toString().substring(0, 3),
+                                                "profit", r.getTotalProfit()))
                                 .collect(Collectors.toList());
 
-                // Calculate current month profit dynamically (Live view)
-                int currentMonth = java.time.LocalDate.now().getMonthValue();
-                boolean currentMonthFinalized = history.stream().anyMatch(h -> h.getMonth() == currentMonth);
-
-                List<Object> profitData = new java.util.ArrayList<>();
-
-                // Add finalized history
-                profitData.addAll(history.stream()
-                                .map(h -> java.util.Map.<String, Object>of(
-                                                "name", java.time.Month.of(h.getMonth()).toString().substring(0, 3),
-                                                "profit", h.getProfitAmount()))
-                                .collect(Collectors.toList()));
-
-                // Add current month if not finalized
-                if (!currentMonthFinalized) {
-                        java.time.LocalDateTime start = java.time.LocalDate.of(currentYear, currentMonth, 1)
-                                        .atStartOfDay();
-                        java.time.LocalDateTime end = java.time.LocalDateTime.now();
-                        BigDecimal currentMonthProfit = transactionRepository.sumProfitByUserIdAndDateRange(userId,
-                                        start, end);
-                        if (currentMonthProfit != null && currentMonthProfit.compareTo(BigDecimal.ZERO) > 0) {
-                                profitData.add(java.util.Map.of(
-                                                "name", java.time.Month.of(currentMonth).toString().substring(0, 3),
-                                                "profit", currentMonthProfit));
-                        }
-                }
-
-                // Sort by month
-                profitData.sort((o1, o2) -> {
-                        @SuppressWarnings("unchecked")
-                        java.util.Map<String, Object> m1 = (java.util.Map<String, Object>) o1;
-                        @SuppressWarnings("unchecked")
-                        java.util.Map<String, Object> m2 = (java.util.Map<String, Object>) o2;
-                        String n1 = (String) m1.get("name");
-                        String n2 = (String) m2.get("name");
-                        return Integer.compare(monthValue(n1), monthValue(n2));
-                });
-
                 return DashboardMetrics.builder()
                                 .totalInvested(totalCredit)
                                 .totalWithdrawn(totalDebit)
@@ -102,10 +65,12 @@ public class AnalyticsService {
                                 .currentBalance(currentBalance)
                                 .recentTransactions(recentTransactions)
                                 .monthlyProfitData(profitData)
-                                .balanceHistory(java.util.Collections.emptyList())
+                                .balanceHistory(new java.util.ArrayList<>(
+                                                balanceHistoryService.getSeries(userId, null, null, null)))
                                 .build();
         }
 
+        @Transactional(readOnly = true)
         public List<com.enterprise.investmentanalytics.dto.response.AdminUserSummary> getAllUserSummaries(
                         List<User> users) {
                 List<Portfolio> portfolios = portfolioRepository.findAll();
@@ -133,12 +98,9 @@ public class AnalyticsService {
                 }).collect(Collectors.toList());
         }
 
-        private int monthValue(String monthName) {
-                for (java.time.Month m : java.time.Month.values()) {
-                        if (m.toString().substring(0, 3).equals(monthName)) {
-                                return m.getValue();
-                        }
-                }
-                return 0;
+        private BigDecimal ledgerTotal(UUID userId, TransactionType type, java.time.LocalDateTime hotFrom) {
+                BigDecimal hot = transactionRepository.sumAmountByUserIdAndTypeSince(userId, type, hotFrom);
+                BigDecimal archived = ledgerPeriodSummaryRepository.sumAmountByUserIdAndType(userId, type);
+                return (hot != null ? hot : BigDecimal.ZERO).add(archived != null ? archived : BigDecimal.ZERO);
         }
 }
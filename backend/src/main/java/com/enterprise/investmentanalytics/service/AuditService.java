@@ -4,41 +4,89 @@ import com.enterprise.investmentanalytics.model.entity.AuditLog;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.repository.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
 
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private AuditService self;
+
     public void log(String action, String entityType, String entityId) {
-        String actorId = null;
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            actorId = ((User) authentication.getPrincipal()).getUserId();
+        write(List.of(buildLog(action, entityType, entityId, currentActorId(), currentIpAddress())));
+    }
+
+    // One audit row per entity, inserted together (JDBC batched) for batch operations
+    public void logAll(String action, String entityType, List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
         }
+        String actorId = currentActorId();
+        String ipAddress = currentIpAddress();
 
-        String ipAddress = null;
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes != null) {
-            ipAddress = attributes.getRequest().getRemoteAddr();
+        List<AuditLog> logs = new ArrayList<>(entityIds.size());
+        for (String entityId : entityIds) {
+            logs.add(buildLog(action, entityType, entityId, actorId, ipAddress));
         }
+        write(logs);
+    }
+
+    // Inserted (JDBC batched) in the caller's read-write transaction, so the rows commit or roll
+    // back with the action they record. Read-only callers and callers without one get their own.
+    private void write(List<AuditLog> logs) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            auditLogRepository.saveAll(logs);
+        } else {
+            self.persist(logs);
+        }
+    }
 
-        AuditLog log = AuditLog.builder()
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void persist(List<AuditLog> logs) {
+        auditLogRepository.saveAll(logs);
+    }
+
+    private AuditLog buildLog(String action, String entityType, String entityId, String actorId, String ipAddress) {
+        return AuditLog.builder()
                 .actorUserId(actorId)
                 .action(action)
                 .entityType(entityType)
                 .entityId(entityId)
                 .ipAddress(ipAddress)
                 .build();
+    }
 
-        auditLogRepository.save(log);
+    private String currentActorId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return ((User) authentication.getPrincipal()).getUserId();
+        }
+        return null;
+    }
+
+    private String currentIpAddress() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
     }
 }
@@ -5,11 +5,13 @@ import com.enterprise.investmentanalytics.dto.request.ChangePasswordRequest;
 import com.enterprise.investmentanalytics.dto.request.RegisterRequest;
 import com.enterprise.investmentanalytics.dto.response.AuthenticationResponse;
 import com.enterprise.investmentanalytics.dto.response.UserDTO;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.model.enums.UserStatus;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import com.enterprise.investmentanalytics.security.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +28,7 @@ public class AuthenticationService {
         private final AuditService auditService;
         private final PortfolioService portfolioService;
         private final com.enterprise.investmentanalytics.service.UserIdGeneratorService userIdGeneratorService;
+        private final ApplicationEventPublisher eventPublisher;
 
         public AuthenticationResponse register(RegisterRequest request) {
                 // Step 1: Assign sequential IDs before save
@@ -46,6 +49,7 @@ public class AuthenticationService {
 
                 // Step 2: Save user with all IDs already set
                 var savedUser = repository.save(user);
+                eventPublisher.publishEvent(ClientDataChangedEvent.of("USER_REGISTERED", savedUser));
 
                 // Step 3: Generate JWT tokens
                 var jwtToken = jwtService.generateToken(savedUser);
@@ -103,6 +107,7 @@ public class AuthenticationService {
                                 .build();
 
                 var savedUser = repository.save(user);
+                eventPublisher.publishEvent(ClientDataChangedEvent.of("USER_REQUESTED", savedUser));
 
                 // create portfolio immediately
                 if (request.getInvestmentAmount() != null) {
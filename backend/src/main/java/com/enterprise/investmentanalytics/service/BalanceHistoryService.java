@@ -0,0 +1,119 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.projection.BalancePoint;
+import com.enterprise.investmentanalytics.repository.BalanceSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * End-of-day balance series per client. A daily job snapshots every portfolio
+ * in one statement; readers get the series for a date range, downsampled on the
+ * server with Largest-Triangle-Three-Buckets to a point budget so long ranges
+ * keep their shape without shipping every day to the chart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceHistoryService {
+
+    private static final int MAX_POINTS = 2000;
+    private static final LocalDate SERIES_START = LocalDate.of(1970, 1, 1);
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final ScheduledJobService scheduledJobService;
+
+    @Value("${app.balance-snapshot.default-points:120}")
+    private int defaultPoints;
+
+    // The snapshot copies the portfolios' current balances, so it can only be stored as today's
+    public int takeSnapshot(LocalDate day) {
+        if (!LocalDate.now().equals(day)) {
+            throw new com.enterprise.investmentanalytics.exception.BadRequestException(
+                    "Balance snapshots hold current balances and can only be taken for today, not " + day);
+        }
+        long started = System.currentTimeMillis();
+        int rows = balanceSnapshotRepository.snapshotAll(day);
+        log.info("Balance snapshot for {}: {} rows in {} ms", day, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    // Runs after the last accrual ticks of the day
+    @Scheduled(cron = "${app.balance-snapshot.cron:0 55 23 * * *}")
+    public void scheduledSnapshot() {
+        scheduledJobService.run("balance-snapshot", () -> (long) takeSnapshot(LocalDate.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BalancePoint> getSeries(UUID userId, LocalDate from, LocalDate to, Integer points) {
+        int budget = points == null ? defaultPoints : Math.max(3, Math.min(points, MAX_POINTS));
+        List<BalancePoint> series = balanceSnapshotRepository.findSeries(userId,
+                from != null ? from : SERIES_START, to != null ? to : LocalDate.now());
+        return downsample(series, budget);
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets: keeps the first and last point and, from
+     * each bucket in between, the point forming the largest triangle with the
+     * previously kept point and the average of the next bucket.
+     */
+    static List<BalancePoint> downsample(List<BalancePoint> data, int threshold) {
+        int n = data.size();
+        if (threshold >= n || threshold < 3) {
+            return data;
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = data.get(i).getDate().toEpochDay();
+            y[i] = data.get(i).getBalance() != null ? data.get(i).getBalance().doubleValue() : 0d;
+        }
+
+        List<BalancePoint> sampled = new ArrayList<>(threshold);
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int kept = 0;
+        sampled.add(data.get(0));
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // Average of the next bucket
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextLength = nextEnd - nextStart;
+            avgX /= nextLength;
+            avgY /= nextLength;
+
+            // Point of the current bucket with the largest triangle
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int selected = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[kept] - avgX) * (y[i] - y[kept]) - (x[kept] - x[i]) * (avgY - y[kept]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = i;
+                }
+            }
+            sampled.add(data.get(selected));
+            kept = selected;
+        }
+
+        sampled.add(data.get(n - 1));
+        return sampled;
+    }
+}
@@ -0,0 +1,333 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.projection.BankTransferRow;
+import com.enterprise.investmentanalytics.repository.PayoutRequestRepository;
+import com.enterprise.investmentanalytics.repository.WithdrawalRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes every APPROVED, not yet exported withdrawal and payout into a bulk bank
+ * transfer file. Rows are claimed by an export batch in chunked updates, streamed
+ * from a cursor into the file, and stamped as exported once the file is complete.
+ *
+ * A batch whose export died after the claim is recovered by the next export once
+ * its claim is older than app.bank-export.stale-claim-minutes: if its file was
+ * published the rows are stamped, otherwise they are released and exported
+ * again. Recovery looks for the file in this instance's export directory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BankTransferExportService {
+
+    public static final String FORMAT_CSV = "CSV";
+    public static final String FORMAT_FIXED_WIDTH = "FIXED_WIDTH";
+
+    private static final DateTimeFormatter FIXED_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int FIXED_ACCOUNT_WIDTH = 20;
+    private static final int FIXED_AMOUNT_WIDTH = 15;
+
+    private final WithdrawalRequestRepository withdrawalRequestRepository;
+    private final PayoutRequestRepository payoutRequestRepository;
+    private final ScheduledJobService scheduledJobService;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private BankTransferExportService self;
+
+    @Value("${app.bank-export.directory:exports/bank-transfers}")
+    private String exportDirectory;
+
+    @Value("${app.bank-export.claim-chunk-size:500}")
+    private int claimChunkSize;
+
+    @Value("${app.bank-export.format:CSV}")
+    private String defaultFormat;
+
+    @Value("${app.bank-export.stale-claim-minutes:30}")
+    private long staleClaimMinutes;
+
+    public Map<String, Object> exportApprovedTransfers(String format) {
+        String fileFormat = format != null && !format.isBlank() ? format.toUpperCase() : defaultFormat.toUpperCase();
+        if (!FORMAT_CSV.equals(fileFormat) && !FORMAT_FIXED_WIDTH.equals(fileFormat)) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+
+        long started = System.currentTimeMillis();
+        recoverStaleBatches();
+        String batchId = UUID.randomUUID().toString();
+
+        // 1. Claim rows in chunks so concurrent exports never pick the same request
+        int withdrawals = claimAll(limit -> withdrawalRequestRepository.claimForExport(batchId, limit));
+        int payouts = claimAll(limit -> payoutRequestRepository.claimForExport(batchId, limit));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("batchId", batchId);
+        result.put("withdrawals", withdrawals);
+        result.put("payouts", payouts);
+
+        if (withdrawals + payouts == 0) {
+            result.put("fileName", null);
+            result.put("totalAmount", BigDecimal.ZERO);
+            result.put("durationMs", System.currentTimeMillis() - started);
+            return result;
+        }
+
+        // 2. Stream the claimed rows into a part file, then publish it. Rows the file could not hold are
+        // released first, so a recovered batch never stamps a row missing from its file.
+        Path target = exportFile(batchId, fileFormat);
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        ExportTotals totals;
+        try {
+            totals = self.writeBatchFile(batchId, fileFormat, temp);
+            releaseRejected(totals);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            withdrawalRequestRepository.releaseExportBatch(batchId);
+            payoutRequestRepository.releaseExportBatch(batchId);
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Failed to publish bank transfer file: " + e.getMessage(), e);
+        }
+
+        // 3. Stamp the whole batch as exported
+        LocalDateTime exportedAt = LocalDateTime.now();
+        withdrawalRequestRepository.markExported(batchId, exportedAt);
+        payoutRequestRepository.markExported(batchId, exportedAt);
+
+        long duration = System.currentTimeMillis() - started;
+        log.info("Bank transfer export {}: {} rows, total {}, {} ms", batchId, totals.rows, totals.amount, duration);
+
+        result.put("fileName", target.getFileName().toString());
+        result.put("format", fileFormat);
+        result.put("totalAmount", totals.amount);
+        result.put("missingBankDetails", totals.missingBankDetails);
+        result.put("rejected", totals.rejected);
+        result.put("durationMs", duration);
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public ExportTotals writeBatchFile(String batchId, String format, Path temp) {
+        ExportTotals totals = new ExportTotals();
+        try {
+            Files.createDirectories(temp.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                if (FORMAT_CSV.equals(format)) {
+                    writer.write("request_id,type,user_id,beneficiary_name,bank_name,account_number,amount,approved_at");
+                    writer.newLine();
+                }
+                try (Stream<BankTransferRow> rows = withdrawalRequestRepository.streamByExportBatchId(batchId)) {
+                    rows.forEach(row -> writeRow(writer, row, format, totals));
+                }
+                try (Stream<BankTransferRow> rows = payoutRequestRepository.streamByExportBatchId(batchId)) {
+                    rows.forEach(row -> writeRow(writer, row, format, totals));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(temp);
+            throw new RuntimeException("Failed to write bank transfer file: " + e.getMessage(), e);
+        }
+        return totals;
+    }
+
+    public Path resolveExportFile(String batchId) {
+        UUID.fromString(batchId); // Reject anything that is not a batch id before touching the file system
+        for (String format : new String[] { FORMAT_CSV, FORMAT_FIXED_WIDTH }) {
+            Path file = exportFile(batchId, format);
+            if (Files.exists(file)) {
+                return file;
+            }
+        }
+        throw new IllegalArgumentException("Export file not found for batch " + batchId);
+    }
+
+    // Disabled unless a cron expression is configured
+    @Scheduled(cron = "${app.bank-export.cron:-}")
+    public void scheduledExport() {
+        scheduledJobService.run("bank-transfer-export", () -> {
+            Map<String, Object> result = exportApprovedTransfers(defaultFormat);
+            return ((Number) result.get("withdrawals")).longValue() + ((Number) result.get("payouts")).longValue();
+        });
+    }
+
+    // Batches an export left claimed but unstamped: a published file means only the stamp is missing
+    private void recoverStaleBatches() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(staleClaimMinutes);
+        Set<String> batchIds = new LinkedHashSet<>(withdrawalRequestRepository.findStaleExportBatchIds(cutoff));
+        batchIds.addAll(payoutRequestRepository.findStaleExportBatchIds(cutoff));
+        for (String batchId : batchIds) {
+            boolean published = Files.exists(exportFile(batchId, FORMAT_CSV))
+                    || Files.exists(exportFile(batchId, FORMAT_FIXED_WIDTH));
+            if (published) {
+                LocalDateTime exportedAt = LocalDateTime.now();
+                int rows = withdrawalRequestRepository.markExported(batchId, exportedAt)
+                        + payoutRequestRepository.markExported(batchId, exportedAt);
+                log.warn("Bank transfer export {} published its file but was never stamped; marked {} rows exported",
+                        batchId, rows);
+            } else {
+                int rows = withdrawalRequestRepository.releaseExportBatch(batchId)
+                        + payoutRequestRepository.releaseExportBatch(batchId);
+                log.warn("Bank transfer export {} claimed {} rows but never published a file; released them",
+                        batchId, rows);
+            }
+        }
+    }
+
+    private void releaseRejected(ExportTotals totals) {
+        if (!totals.rejectedWithdrawals.isEmpty()) {
+            withdrawalRequestRepository.releaseFromExport(totals.rejectedWithdrawals);
+        }
+        if (!totals.rejectedPayouts.isEmpty()) {
+            payoutRequestRepository.releaseFromExport(totals.rejectedPayouts);
+        }
+        if (!totals.rejected.isEmpty()) {
+            log.warn("Bank transfer export left out {} requests that do not fit the file: {}", totals.rejected.size(),
+                    totals.rejected);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Best effort cleanup
+        }
+    }
+
+    private int claimAll(java.util.function.IntUnaryOperator claimChunk) {
+        int total = 0;
+        int claimed;
+        do {
+            claimed = claimChunk.applyAsInt(claimChunkSize);
+            total += claimed;
+        } while (claimed == claimChunkSize);
+        return total;
+    }
+
+    private void writeRow(BufferedWriter writer, BankTransferRow row, String format, ExportTotals totals) {
+        if (FORMAT_FIXED_WIDTH.equals(format)) {
+            // A cut account number or amount would pay the wrong account or sum; leave the row for a fix instead
+            String problem = fixedWidthProblem(row);
+            if (problem != null) {
+                totals.reject(row, problem);
+                return;
+            }
+        }
+        try {
+            if (FORMAT_CSV.equals(format)) {
+                writer.write(String.join(",",
+                        row.getRequestId().toString(),
+                        row.getRequestType(),
+                        csv(row.getUserId()),
+                        csv(row.getBeneficiaryName()),
+                        csv(row.getBankName()),
+                        csv(row.getAccountNumber()),
+                        amount(row.getAmount()),
+                        row.getApprovedAt() != null ? row.getApprovedAt().toString() : ""));
+            } else {
+                writer.write(fixed(row.getRequestType(), 10, false)
+                        + fixed(row.getUserId(), 12, false)
+                        + fixed(row.getBeneficiaryName(), 35, false)
+                        + fixed(row.getBankName(), 30, false)
+                        + fixed(row.getAccountNumber(), FIXED_ACCOUNT_WIDTH, false)
+                        + fixed(amount(row.getAmount()), FIXED_AMOUNT_WIDTH, true)
+                        + fixed(row.getApprovedAt() != null ? row.getApprovedAt().format(FIXED_DATE) : "", 8, false));
+            }
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        totals.rows++;
+        totals.amount = totals.amount.add(row.getAmount());
+        if (row.getAccountNumber() == null || row.getAccountNumber().isBlank()) {
+            totals.missingBankDetails++;
+        }
+    }
+
+    private Path exportFile(String batchId, String format) {
+        String extension = FORMAT_CSV.equals(format) ? "csv" : "txt";
+        return Paths.get(exportDirectory).resolve("bank-transfers-" + batchId + "." + extension);
+    }
+
+    private static String amount(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String fixedWidthProblem(BankTransferRow row) {
+        if (row.getAccountNumber() != null && row.getAccountNumber().length() > FIXED_ACCOUNT_WIDTH) {
+            return "Account number longer than " + FIXED_ACCOUNT_WIDTH + " characters";
+        }
+        if (amount(row.getAmount()).length() > FIXED_AMOUNT_WIDTH) {
+            return "Amount longer than " + FIXED_AMOUNT_WIDTH + " characters";
+        }
+        return null;
+    }
+
+    // Descriptive fields only; account number and amount are checked by fixedWidthProblem first
+    private static String fixed(String value, int width, boolean rightAlign) {
+        String v = value == null ? "" : value.replaceAll("[\\r\\n]", " ");
+        if (v.length() > width) {
+            return v.substring(0, width);
+        }
+        return rightAlign ? " ".repeat(width - v.length()) + v : v + " ".repeat(width - v.length());
+    }
+
+    public static class ExportTotals {
+        private int rows;
+        private int missingBankDetails;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private final Map<String, String> rejected = new LinkedHashMap<>(); // Request id -> reason
+        private final List<UUID> rejectedWithdrawals = new ArrayList<>();
+        private final List<UUID> rejectedPayouts = new ArrayList<>();
+
+        void reject(BankTransferRow row, String reason) {
+            rejected.put(row.getRequestId().toString(), reason);
+            if ("PAYOUT".equals(row.getRequestType())) {
+                rejectedPayouts.add(row.getRequestId());
+            } else {
+                rejectedWithdrawals.add(row.getRequestId());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Approves or rejects many deposit, withdrawal or payout requests in one call.
+ * Ids are split into chunks and every chunk is handled by the owning service in
+ * its own transaction, so a failing chunk does not undo the ones before it; the
+ * requests of a failed chunk are retried one at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchDecisionService {
+
+    private final DepositService depositService;
+    private final WithdrawalService withdrawalService;
+    private final PayoutRequestService payoutRequestService;
+
+    @Value("${app.batch-decision.chunk-size:100}")
+    private int chunkSize;
+
+    public BatchResultDTO approveDeposits(List<UUID> ids, String adminNote) {
+        return process("APPROVE_DEPOSIT", ids, chunk -> depositService.approveDepositBatch(chunk, adminNote));
+    }
+
+    public BatchResultDTO rejectDeposits(List<UUID> ids, String reason) {
+        return process("REJECT_DEPOSIT", ids, chunk -> depositService.rejectDepositBatch(chunk, reason));
+    }
+
+    public BatchResultDTO approveWithdrawals(List<UUID> ids, String adminId, String paymentMode) {
+        return process("APPROVE_WITHDRAWAL", ids,
+                chunk -> withdrawalService.approveWithdrawalBatch(chunk, adminId, paymentMode));
+    }
+
+    public BatchResultDTO rejectWithdrawals(List<UUID> ids, String adminId, String reason) {
+        return process("REJECT_WITHDRAWAL", ids,
+                chunk -> withdrawalService.rejectWithdrawalBatch(chunk, adminId, reason));
+    }
+
+    public BatchResultDTO approvePayouts(List<UUID> ids, String adminUsername) {
+        return process("APPROVE_PAYOUT", ids, chunk -> payoutRequestService.approveBatch(chunk, adminUsername));
+    }
+
+    public BatchResultDTO rejectPayouts(List<UUID> ids, String adminUsername, String reason) {
+        return process("REJECT_PAYOUT", ids,
+                chunk -> payoutRequestService.rejectBatch(chunk, adminUsername, reason));
+    }
+
+    /**
+     * The per-request loop of the services' batch methods, run inside their chunk
+     * transaction. Each id is looked up among the loaded requests and handed to
+     * the decision in submission order; a decision that throws skips its request
+     * with the exception's message and leaves the rest of the chunk going.
+     */
+    static <R> Decided<R> decideEach(List<UUID> ids, List<R> loaded, Function<R, UUID> idOf,
+            String notFoundMessage, String decidedStatus, Consumer<R> decision) {
+        Map<UUID, R> requests = new HashMap<>();
+        for (R request : loaded) {
+            requests.put(idOf.apply(request), request);
+        }
+
+        List<R> decided = new ArrayList<>();
+        List<BatchResultDTO.ItemResult> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            R request = requests.get(id);
+            if (request == null) {
+                results.add(BatchResultDTO.ItemResult.failed(id, notFoundMessage));
+                continue;
+            }
+            try {
+                decision.accept(request);
+            } catch (RuntimeException e) {
+                results.add(BatchResultDTO.ItemResult.failed(id, e.getMessage()));
+                continue;
+            }
+            decided.add(request);
+            results.add(BatchResultDTO.ItemResult.ok(id, decidedStatus));
+        }
+        return new Decided<>(decided, results);
+    }
+
+    // Requests the decision was applied to, in submission order, and the result of every id
+    record Decided<R>(List<R> requests, List<BatchResultDTO.ItemResult> results) {
+    }
+
+    private BatchResultDTO process(String operation, List<UUID> ids,
+            Function<List<UUID>, List<BatchResultDTO.ItemResult>> chunkHandler) {
+        if (ids == null || ids.isEmpty()) {
+            throw new com.enterprise.investmentanalytics.exception.BadRequestException(
+                    "At least one request id is required");
+        }
+        long started = System.currentTimeMillis();
+
+        List<BatchResultDTO.ItemResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                results.addAll(chunkHandler.apply(chunk));
+            } catch (Exception e) {
+                // The chunk's transaction rolled back; retry its requests one at a time so one bad row
+                // does not hold back the rest
+                log.error("{} batch chunk of {} requests failed, retrying one by one: {}", operation, chunk.size(),
+                        e.getMessage(), e);
+                for (UUID id : chunk) {
+                    results.addAll(retryOne(operation, id, chunkHandler));
+                }
+            }
+        }
+
+        int succeeded = 0;
+        for (BatchResultDTO.ItemResult result : results) {
+            if (result.isSuccess()) {
+                succeeded++;
+            }
+        }
+        long duration = System.currentTimeMillis() - started;
+        log.info("{} batch: {} of {} succeeded in {} ms", operation, succeeded, ids.size(), duration);
+
+        return BatchResultDTO.builder()
+                .total(ids.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .durationMs(duration)
+                .results(results)
+                .build();
+    }
+
+    private List<BatchResultDTO.ItemResult> retryOne(String operation, UUID id,
+            Function<List<UUID>, List<BatchResultDTO.ItemResult>> chunkHandler) {
+        try {
+            return chunkHandler.apply(List.of(id));
+        } catch (Exception e) {
+            log.error("{} of request {} failed: {}", operation, id, e.getMessage());
+            return List.of(BatchResultDTO.ItemResult.failed(id, "Batch chunk failed: " + e.getMessage()));
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class BatchJobService {
 
     private final ProfitCalculationService profitCalculationService;
     private final GlobalConfigService configService;
+    private final ScheduledJobService scheduledJobService;
 
     // Track the last time we ran the profit calculation
     private final AtomicReference<LocalDateTime> lastRunTime = new AtomicReference<>(LocalDateTime.now().minusDays(1));
@@ -25,7 +26,7 @@ public class BatchJobService {
     // Poll every 30 seconds to see if we need to run the job
     @Scheduled(fixedRateString = "${app.scheduling.profit-calculation-rate:30000}")
     public void attemptProfitCalculation() {
-        try {
+        scheduledJobService.run("profit-calculation", () -> {
             // 1. Get Config
             int durationValue = configService.getInt(GlobalConfigService.PROFIT_DURATION_VALUE);
             String durationUnit = configService.getValue(GlobalConfigService.PROFIT_DURATION_UNIT); // MINUTES, HOURS,
@@ -38,15 +39,14 @@ public class BatchJobService {
                 log.info("Triggering Profit Calculation. Now: {}, NextRun: {}", now, nextRunTime);
 
                 // Trigger Calculation
-                profitCalculationService.calculateProfitBatch(now);
+                int processed = profitCalculationService.calculateProfitBatch(now, "scheduler");
 
                 // Update last run time
                 lastRunTime.set(now);
+                return (long) processed;
             }
-
-        } catch (Exception e) {
-            log.error("Error in dynamic profit scheduler: {}", e.getMessage(), e);
-        }
+            return null;
+        });
     }
 
     private LocalDateTime calculateNextRunTime(LocalDateTime lastRun, int value, String unit) {
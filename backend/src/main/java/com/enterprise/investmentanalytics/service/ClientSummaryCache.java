@@ -0,0 +1,163 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Client summary lists kept in memory until the data behind them changes.
+ * The whole-book lists (active and inactive clients) form one partition each
+ * and every mediator's list its own. A ClientDataChangedEvent drops the book
+ * partitions and the partitions of the mediators involved: those named in
+ * the event and those whose cached list holds one of its clients.
+ *
+ * Misses load through SingleFlightService. A load that overlaps an
+ * invalidation is returned but not kept, so a list read before a commit never
+ * outlives it. app.summary-cache.ttl-seconds bounds staleness from writes
+ * that publish no event (native bulk updates, maintenance jobs).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClientSummaryCache {
+
+    private final SingleFlightService singleFlightService;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long generation; // Guarded by lock; bumped by every invalidation
+
+    private final AtomicLong bookHits = new AtomicLong();
+    private final AtomicLong bookMisses = new AtomicLong();
+    private final AtomicLong mediatorHits = new AtomicLong();
+    private final AtomicLong mediatorMisses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${app.summary-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.summary-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // A mediator's partition when mediatorId is given, a book partition otherwise
+    public List<AdminClientSummaryDTO> get(String key, UUID mediatorId, Supplier<List<AdminClientSummaryDTO>> loader) {
+        if (!enabled) {
+            return singleFlightService.execute(key, loader);
+        }
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired()) {
+            entry.hits.incrementAndGet();
+            (mediatorId != null ? mediatorHits : bookHits).incrementAndGet();
+            return entry.value;
+        }
+        (mediatorId != null ? mediatorMisses : bookMisses).incrementAndGet();
+
+        long loadGeneration;
+        synchronized (lock) {
+            loadGeneration = generation;
+        }
+        // Callers only share a load started in the same generation
+        List<AdminClientSummaryDTO> value = singleFlightService.execute(key + "#" + loadGeneration, loader);
+        synchronized (lock) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry(value, mediatorId, clientIds(value),
+                        System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            }
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClientDataChanged(ClientDataChangedEvent event) {
+        List<String> dropped = new ArrayList<>();
+        synchronized (lock) {
+            generation++;
+            entries.forEach((key, entry) -> {
+                if (event.isEverything() || entry.mediatorId == null || event.mediatorIds().contains(entry.mediatorId)
+                        || entry.clientIds.stream().anyMatch(event.clientIds()::contains)) {
+                    dropped.add(key);
+                }
+            });
+            dropped.forEach(entries::remove);
+        }
+        invalidations.incrementAndGet();
+        log.debug("Client summaries invalidated ({}): {}", event.reason(), dropped);
+    }
+
+    public void clear() {
+        onClientDataChanged(ClientDataChangedEvent.all("MANUAL"));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("book", partitionStats(bookHits.get(), bookMisses.get()));
+        stats.put("mediator", partitionStats(mediatorHits.get(), mediatorMisses.get()));
+        stats.put("invalidations", invalidations.get());
+
+        Map<String, Object> cached = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("clients", entry.value.size());
+            item.put("hits", entry.hits.get());
+            item.put("ageSeconds", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - entry.loadedAt));
+            cached.put(key, item);
+        });
+        stats.put("entries", cached);
+        return stats;
+    }
+
+    private static Map<String, Object> partitionStats(long hits, long misses) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        return stats;
+    }
+
+    private static Set<UUID> clientIds(List<AdminClientSummaryDTO> summaries) {
+        Set<UUID> ids = new HashSet<>();
+        for (AdminClientSummaryDTO summary : summaries) {
+            ids.add(summary.getClientId());
+        }
+        return ids;
+    }
+
+    private static final class Entry {
+        private final List<AdminClientSummaryDTO> value;
+        private final UUID mediatorId;
+        private final Set<UUID> clientIds;
+        private final long loadedAt = System.nanoTime();
+        private final long expiresAt;
+        private final AtomicLong hits = new AtomicLong();
+
+        Entry(List<AdminClientSummaryDTO> value, UUID mediatorId, Set<UUID> clientIds, long expiresAt) {
+            this.value = value;
+            this.mediatorId = mediatorId;
+            this.clientIds = clientIds;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
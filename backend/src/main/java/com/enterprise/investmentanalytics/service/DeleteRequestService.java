@@ -1,13 +1,13 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.DeleteRequest;
-import com.enterprise.investmentanalytics.model.entity.DepositRequest; // New
-import com.enterprise.investmentanalytics.model.entity.PayoutRequest; // New
 import com.enterprise.investmentanalytics.model.entity.User;
-import com.enterprise.investmentanalytics.model.entity.WithdrawalRequest; // New
 import com.enterprise.investmentanalytics.model.enums.*;
 import com.enterprise.investmentanalytics.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DeleteRequestService {
 
     private final DeleteRequestRepository deleteRequestRepository;
@@ -29,7 +30,19 @@ public class DeleteRequestService {
     private final TransactionRepository transactionRepository;
     private final PortfolioRepository portfolioRepository;
     private final MonthlyProfitHistoryRepository monthlyProfitHistoryRepository;
+    private final LedgerPeriodSummaryRepository ledgerPeriodSummaryRepository;
+    private final ProfitPeriodRollupRepository profitPeriodRollupRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MaintenanceJobService maintenanceJobService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private DeleteRequestService self;
+
+    @org.springframework.beans.factory.annotation.Value("${app.maintenance.delete-chunk-size:5000}")
+    private int deleteChunkSize;
 
     @Transactional
     public DeleteRequest requestClientDeletion(User mediator, UUID clientId, String reason) {
@@ -104,47 +117,49 @@ public class DeleteRequestService {
         deleteRequestRepository.save(request);
     }
 
+    // Target users and requesters come from the same query, not one lookup per request
+    @Transactional(readOnly = true)
     public List<com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO> getAllPendingRequests() {
-        return deleteRequestRepository.findByStatus(DeleteRequestStatus.PENDING).stream()
+        return deleteRequestRepository.findRowsByStatus(DeleteRequestStatus.PENDING).stream()
                 .map(this::mapToDTO)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO> getRequestsByMediator(
             UUID mediatorId) {
-        return deleteRequestRepository.findByRequestedById(mediatorId).stream()
+        return deleteRequestRepository.findRowsByRequestedById(mediatorId).stream()
                 .map(this::mapToDTO)
                 .toList();
     }
 
-    private com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO mapToDTO(DeleteRequest request) {
-        User targetUser = userRepository.findById(request.getEntityId()).orElse(null);
-
+    private com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO mapToDTO(
+            com.enterprise.investmentanalytics.dto.projection.DeleteRequestRow row) {
         com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO.UserSummaryDTO targetDTO = null;
-        if (targetUser != null) {
+        if (row.getTargetId() != null) {
             targetDTO = com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO.UserSummaryDTO.builder()
-                    .id(targetUser.getId())
-                    .name(targetUser.getName())
-                    .email(targetUser.getEmail())
-                    .role(targetUser.getRole().toString())
+                    .id(row.getTargetId())
+                    .name(row.getTargetName())
+                    .email(row.getTargetEmail())
+                    .role(row.getTargetRole().toString())
                     .build();
         }
 
         com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO.UserSummaryDTO requesterDTO = null;
-        if (request.getRequestedBy() != null) {
+        if (row.getRequesterId() != null) {
             requesterDTO = com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO.UserSummaryDTO.builder()
-                    .id(request.getRequestedBy().getId())
-                    .name(request.getRequestedBy().getName())
-                    .email(request.getRequestedBy().getEmail())
-                    .role(request.getRequestedBy().getRole().toString())
+                    .id(row.getRequesterId())
+                    .name(row.getRequesterName())
+                    .email(row.getRequesterEmail())
+                    .role(row.getRequesterRole().toString())
                     .build();
         }
 
         return com.enterprise.investmentanalytics.dto.response.DeleteRequestDTO.builder()
-                .id(request.getId())
-                .reason(request.getReason())
-                .status(request.getStatus().toString())
-                .createdAt(request.getCreatedAt())
+                .id(row.getId())
+                .reason(row.getReason())
+                .status(row.getStatus().toString())
+                .createdAt(row.getCreatedAt())
                 .targetUser(targetDTO)
                 .requester(requesterDTO)
                 .build();
@@ -185,78 +200,97 @@ public class DeleteRequestService {
         user.setDeletedAt(LocalDateTime.now());
         user.setDeletedBy(deletedBy);
         userRepository.save(user);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("USER_DEACTIVATED", user));
 
-        // 2. Cancel Pending Deposits
-        // 2. Cancel Pending Deposits
-        List<DepositRequest> deposits = depositRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        for (DepositRequest d : deposits) {
-            if (d.getStatus() == RequestStatus.PENDING) {
-                d.setStatus(RequestStatus.CANCELLED);
-                d.setAdminNote("Cancelled due to user deactivation");
-                depositRequestRepository.save(d);
-            }
-        }
+        // 2. Cancel pending deposits, withdrawals and payouts with one UPDATE each
+        LocalDateTime now = LocalDateTime.now();
+        String note = "Cancelled due to user deactivation";
+        int deposits = depositRequestRepository.cancelPendingByUserId(userId, note, now);
+        int withdrawals = withdrawalRequestRepository.cancelPendingByUserId(userId, note, now);
+        int payouts = payoutRequestRepository.cancelPendingByUserId(userId, note, now);
 
-        // 3. Cancel Pending Withdrawals
-        List<WithdrawalRequest> withdrawals = withdrawalRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        for (WithdrawalRequest w : withdrawals) {
-            if (w.getStatus() == WithdrawalStatus.PENDING) {
-                w.setStatus(WithdrawalStatus.CANCELLED);
-                w.setRejectionReason("Cancelled due to user deactivation");
-                withdrawalRequestRepository.save(w);
-            }
-        }
+        log.info("Cancelled pending requests for user {}: {} deposits, {} withdrawals, {} payouts", userId, deposits,
+                withdrawals, payouts);
+    }
 
-        // 4. Cancel Pending Payouts
-        List<PayoutRequest> payouts = payoutRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        for (PayoutRequest p : payouts) {
-            if (p.getStatus() == WithdrawalStatus.PENDING) {
-                p.setStatus(WithdrawalStatus.CANCELLED);
-                p.setRejectionReason("Cancelled due to user deactivation");
-                payoutRequestRepository.save(p);
-            }
+    /**
+     * Queues the permanent purge of an inactive user as a maintenance job and
+     * returns immediately; progress is available from the job registry.
+     */
+    public com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO startPermanentDelete(
+            @NonNull UUID userId, String requestedBy) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (!user.isDeleted() && user.getStatus() != UserStatus.INACTIVE) {
+            throw new IllegalStateException("Only inactive users can be deleted permanently");
         }
+        return maintenanceJobService.submit("PERMANENT_DELETE_USER", userId.toString(), requestedBy,
+                job -> performPermanentDelete(userId, job));
     }
 
-    @Transactional
-    public void performPermanentDelete(@NonNull UUID userId) {
+    /**
+     * Deletes the user and everything owned by it. Large child tables are purged
+     * with repeated DELETE ... LIMIT statements, each committed on its own, so a
+     * client with years of PROFIT rows never holds one huge transaction. The user
+     * row itself goes last, together with its portfolio and delete requests.
+     */
+    public void performPermanentDelete(@NonNull UUID userId, MaintenanceJobService.MaintenanceJob job) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        byte[] userKey = toBytes(userId);
+
+        purge(job, "transactions", limit -> transactionRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "transactions_archive", limit -> transactionRepository.deleteArchivedChunkByUserId(userKey, limit));
+        purge(job, "ledger_period_summaries",
+                limit -> ledgerPeriodSummaryRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "profit_period_rollups", limit -> profitPeriodRollupRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "balance_snapshots", limit -> balanceSnapshotRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "deposit_requests", limit -> depositRequestRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "withdrawal_requests", limit -> withdrawalRequestRepository.deleteChunkByUserId(userKey, limit));
+        purge(job, "payout_requests", limit -> payoutRequestRepository.deleteChunkByUserId(userKey, limit));
+        if (user.getUserId() != null) {
+            purge(job, "monthly_profit_history",
+                    limit -> monthlyProfitHistoryRepository.deleteChunkByUserId(user.getUserId(), limit));
+            purge(job, "monthly_profit_history_archive",
+                    limit -> monthlyProfitHistoryRepository.deleteArchivedChunkByUserId(user.getUserId(), limit));
+        }
 
-        // 1. Delete Transactions
-        List<com.enterprise.investmentanalytics.model.entity.Transaction> transactions = transactionRepository
-                .findByUserId(userId);
-        if (transactions != null)
-            transactionRepository.deleteAll(transactions);
-
-        // 2. Delete Requests
-        // 2. Delete Requests
-        List<DepositRequest> deposits = depositRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        if (deposits != null)
-            depositRequestRepository.deleteAll(deposits);
-
-        List<WithdrawalRequest> withdrawals = withdrawalRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        if (withdrawals != null)
-            withdrawalRequestRepository.deleteAll(withdrawals);
+        job.step("users");
+        self.deleteUserRecord(userId);
+        job.add("users", 1);
+    }
 
-        List<PayoutRequest> payouts = payoutRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        if (payouts != null)
-            payoutRequestRepository.deleteAll(payouts);
+    @Transactional
+    public void deleteUserRecord(@NonNull UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        // 3. Delete Portfolio & History
         portfolioRepository.findByUserId(userId).ifPresent(portfolioRepository::delete);
 
-        List<com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory> history = monthlyProfitHistoryRepository
-                .findByUserIdOrderByYearDescMonthDesc(userId);
-        if (history != null)
-            monthlyProfitHistoryRepository.deleteAll(history);
-
-        // 4. Delete DeleteRequests targeting this user
+        // Delete DeleteRequests targeting this user
         List<DeleteRequest> deleteRequests = deleteRequestRepository.findByEntityId(userId);
         if (deleteRequests != null)
             deleteRequestRepository.deleteAll(deleteRequests);
 
-        // 5. Finally delete the User
         userRepository.delete(user);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("USER_DELETED", user));
+    }
+
+    private void purge(MaintenanceJobService.MaintenanceJob job, String table,
+            java.util.function.IntUnaryOperator deleteChunk) {
+        job.step(table);
+        int deleted;
+        do {
+            deleted = deleteChunk.applyAsInt(deleteChunkSize);
+            job.add(table, deleted);
+        } while (deleted == deleteChunkSize);
+    }
+
+    // Native statements compare the BINARY(16) user_id column against raw bytes
+    private static byte[] toBytes(UUID uuid) {
+        return java.nio.ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
     }
 }
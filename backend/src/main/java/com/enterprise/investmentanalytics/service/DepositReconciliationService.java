@@ -0,0 +1,377 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
+import com.enterprise.investmentanalytics.dto.response.DepositReconciliationDTO;
+import com.enterprise.investmentanalytics.dto.response.DepositReconciliationDTO.StatementMatch;
+import com.enterprise.investmentanalytics.model.entity.DepositRequest;
+import com.enterprise.investmentanalytics.model.enums.RequestStatus;
+import com.enterprise.investmentanalytics.repository.DepositRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Matches the credits of an uploaded bank statement CSV against PENDING deposit
+ * requests. Pending requests are indexed by amount once; the statement is read
+ * line by line and each credit is narrowed by date window and user reference.
+ * Exact matches can be approved through the batch approval path.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositReconciliationService {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yy"),
+            DateTimeFormatter.ofPattern("dd-MMM-yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH));
+
+    private static final int MIN_NOTE_REFERENCE_LENGTH = 4;
+
+    private final DepositRequestRepository depositRequestRepository;
+    private final BatchDecisionService batchDecisionService;
+
+    @Value("${app.deposit-reconciliation.date-window-days:3}")
+    private int dateWindowDays;
+
+    public DepositReconciliationDTO reconcile(MultipartFile statement, boolean autoApprove, String adminNote) {
+        if (statement == null || statement.isEmpty()) {
+            throw new IllegalArgumentException("Bank statement file is required");
+        }
+        long started = System.currentTimeMillis();
+
+        // Index pending deposits by normalized amount
+        List<DepositRequest> pending = depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING);
+        Map<BigDecimal, List<DepositRequest>> byAmount = new HashMap<>();
+        for (DepositRequest request : pending) {
+            byAmount.computeIfAbsent(normalize(request.getAmount()), k -> new ArrayList<>()).add(request);
+        }
+
+        List<StatementMatch> matched = new ArrayList<>();
+        List<StatementMatch> ambiguous = new ArrayList<>();
+        List<StatementMatch> unmatched = new ArrayList<>();
+        Set<UUID> claimed = new HashSet<>();
+        int lines = 0;
+        int credits = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(statement.getInputStream(), StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("Bank statement is empty");
+            }
+            StatementColumns columns = StatementColumns.fromHeader(splitCsv(stripBom(headerLine)));
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+                List<String> cells = splitCsv(line);
+                if (!columns.isCredit(cells)) {
+                    continue;
+                }
+                BigDecimal amount = parseAmount(columns.cell(cells, columns.credit));
+                if (amount == null || amount.signum() <= 0) {
+                    continue;
+                }
+                credits++;
+
+                String description = columns.cell(cells, columns.description);
+                StatementMatch.StatementMatchBuilder match = StatementMatch.builder()
+                        .lineNumber(lineNumber)
+                        .date(parseDate(columns.cell(cells, columns.date)))
+                        .amount(amount)
+                        .description(description);
+                classify(match, byAmount.get(normalize(amount)), claimed, matched, ambiguous, unmatched);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read bank statement: " + e.getMessage(), e);
+        }
+
+        int approved = 0;
+        Map<String, String> failures = new HashMap<>();
+        if (autoApprove && !matched.isEmpty()) {
+            List<UUID> ids = new ArrayList<>(matched.size());
+            for (StatementMatch match : matched) {
+                ids.add(match.getDepositRequestIds().get(0));
+            }
+            approved = approveMatches(ids, adminNote, failures);
+        }
+
+        long duration = System.currentTimeMillis() - started;
+        log.info("Deposit reconciliation: {} credits, {} matched, {} ambiguous, {} unmatched, {} approved in {} ms",
+                credits, matched.size(), ambiguous.size(), unmatched.size(), approved, duration);
+
+        return DepositReconciliationDTO.builder()
+                .statementLines(lines)
+                .creditLines(credits)
+                .pendingRequests(pending.size())
+                .matched(matched)
+                .ambiguous(ambiguous)
+                .unmatched(unmatched)
+                .approved(approved)
+                .approvalFailures(failures)
+                .durationMs(duration)
+                .build();
+    }
+
+    private int approveMatches(List<UUID> ids, String adminNote, Map<String, String> failures) {
+        String note = adminNote != null && !adminNote.isBlank() ? adminNote : "Matched bank statement";
+        BatchResultDTO result = batchDecisionService.approveDeposits(ids, note);
+        for (BatchResultDTO.ItemResult item : result.getResults()) {
+            if (!item.isSuccess()) {
+                failures.put(item.getId().toString(), item.getMessage());
+            }
+        }
+        return result.getSucceeded();
+    }
+
+    private void classify(StatementMatch.StatementMatchBuilder match, List<DepositRequest> sameAmount,
+            Set<UUID> claimed, List<StatementMatch> matched, List<StatementMatch> ambiguous,
+            List<StatementMatch> unmatched) {
+        StatementMatch built = match.build();
+        if (sameAmount == null) {
+            built.setReason("No pending deposit with this amount");
+            unmatched.add(built);
+            return;
+        }
+
+        List<DepositRequest> inWindow = new ArrayList<>();
+        for (DepositRequest request : sameAmount) {
+            if (!claimed.contains(request.getId()) && withinWindow(request, built.getDate())) {
+                inWindow.add(request);
+            }
+        }
+        if (inWindow.isEmpty()) {
+            built.setReason("No pending deposit with this amount within " + dateWindowDays + " days");
+            unmatched.add(built);
+            return;
+        }
+
+        List<DepositRequest> referenced = new ArrayList<>();
+        for (DepositRequest request : inWindow) {
+            if (hasUserReference(request, built.getDescription())) {
+                referenced.add(request);
+            }
+        }
+
+        if (referenced.size() == 1) {
+            DepositRequest request = referenced.get(0);
+            claimed.add(request.getId());
+            built.setDepositRequestIds(List.of(request.getId()));
+            built.setUserId(request.getUser().getUserId());
+            built.setReason("Amount, date and user reference match");
+            matched.add(built);
+            return;
+        }
+
+        List<DepositRequest> candidates = referenced.isEmpty() ? inWindow : referenced;
+        List<UUID> candidateIds = new ArrayList<>(candidates.size());
+        for (DepositRequest request : candidates) {
+            candidateIds.add(request.getId());
+        }
+        built.setDepositRequestIds(candidateIds);
+        built.setReason(referenced.isEmpty()
+                ? "Amount and date match but the description has no user reference"
+                : "Several pending deposits match the user reference");
+        ambiguous.add(built);
+    }
+
+    private boolean withinWindow(DepositRequest request, LocalDate statementDate) {
+        if (statementDate == null || request.getCreatedAt() == null) {
+            return true;
+        }
+        long days = Math.abs(ChronoUnit.DAYS.between(request.getCreatedAt().toLocalDate(), statementDate));
+        return days <= dateWindowDays;
+    }
+
+    // The statement narration carries the client's business id or the reference they typed in the note
+    private boolean hasUserReference(DepositRequest request, String description) {
+        if (description == null || description.isBlank()) {
+            return false;
+        }
+        String text = description.toUpperCase(Locale.ROOT);
+        String userId = request.getUser().getUserId();
+        if (userId != null && !userId.isBlank() && containsToken(text, userId.trim().toUpperCase(Locale.ROOT))) {
+            return true;
+        }
+        String note = request.getUserNote() != null ? request.getUserNote().trim() : "";
+        return note.length() >= MIN_NOTE_REFERENCE_LENGTH && containsToken(text, note.toUpperCase(Locale.ROOT));
+    }
+
+    // A reference only counts on its own: SM001 is not found in "SM0012" or "XSM001"
+    private static boolean containsToken(String text, String token) {
+        for (int from = text.indexOf(token); from >= 0; from = text.indexOf(token, from + 1)) {
+            int end = from + token.length();
+            boolean startsToken = from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1));
+            boolean endsToken = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+            if (startsToken && endsToken) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        String cleaned = value.replace(",", "").replace("INR", "").replace("\u20B9", "").trim();
+        if (cleaned.endsWith("CR") || cleaned.endsWith("Cr")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 2).trim();
+        }
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(cleaned);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        // Drop a trailing time component if the bank includes one
+        int space = trimmed.indexOf(' ');
+        if (space > 0 && trimmed.indexOf(':') > space) {
+            trimmed = trimmed.substring(0, space);
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(trimmed, format);
+            } catch (DateTimeParseException ignored) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                cells.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        cells.add(current.toString().trim());
+        return cells;
+    }
+
+    /**
+     * Column positions resolved from the statement header. Statements with a
+     * single amount column often mark each line with a Dr/Cr indicator; when
+     * that column exists only lines it marks as credits are read.
+     */
+    private static class StatementColumns {
+        private int date = -1;
+        private int credit = -1;
+        private int description = -1;
+        private int indicator = -1;
+
+        static StatementColumns fromHeader(List<String> header) {
+            StatementColumns columns = new StatementColumns();
+            int amount = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).toLowerCase(Locale.ROOT);
+                if (columns.indicator < 0 && isIndicator(name)) {
+                    columns.indicator = i;
+                } else if (columns.date < 0 && name.contains("date")) {
+                    columns.date = i;
+                } else if (columns.credit < 0 && (name.contains("credit") || name.equals("cr")
+                        || name.contains("deposit"))) {
+                    columns.credit = i;
+                } else if (amount < 0 && name.contains("amount")) {
+                    amount = i;
+                } else if (columns.description < 0 && (name.contains("description") || name.contains("narration")
+                        || name.contains("particular") || name.contains("remark") || name.contains("reference"))) {
+                    columns.description = i;
+                }
+            }
+            if (columns.credit < 0) {
+                columns.credit = amount;
+            }
+            if (columns.credit < 0) {
+                throw new IllegalArgumentException("Bank statement header must contain a credit or amount column");
+            }
+            return columns;
+        }
+
+        // "Dr/Cr", "Cr/Dr", "Debit/Credit", "Type", "Txn Type", ...
+        private static boolean isIndicator(String name) {
+            String compact = name.replaceAll("[\\s._/-]", "");
+            return compact.equals("drcr") || compact.equals("crdr") || compact.equals("debitcredit")
+                    || compact.equals("creditdebit") || compact.equals("type") || compact.endsWith("txntype")
+                    || compact.endsWith("transactiontype");
+        }
+
+        // Lines without a readable indicator are skipped rather than taken for credits
+        boolean isCredit(List<String> cells) {
+            if (indicator < 0) {
+                return true;
+            }
+            String value = cell(cells, indicator);
+            if (value == null) {
+                return false;
+            }
+            String flag = value.trim().toUpperCase(Locale.ROOT);
+            return flag.equals("C") || flag.equals("CR") || flag.equals("CREDIT");
+        }
+
+        String cell(List<String> cells, int index) {
+            return index >= 0 && index < cells.size() ? cells.get(index) : null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
 import com.enterprise.investmentanalytics.dto.response.DepositRequestDTO;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.DepositRequest;
 import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.model.entity.Transaction;
@@ -12,13 +14,18 @@ import com.enterprise.investmentanalytics.repository.PortfolioRepository;
 import com.enterprise.investmentanalytics.repository.TransactionRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +36,7 @@ public class DepositService {
         private final PortfolioRepository portfolioRepository;
         private final TransactionRepository transactionRepository;
         private final AuditService auditService;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Transactional
         public DepositRequestDTO createDepositRequest(UUID userId, BigDecimal amount, String proofImagePath,
@@ -56,23 +64,18 @@ public class DepositService {
         }
 
         public List<DepositRequestDTO> getAllDepositRequests() {
-                return depositRequestRepository.findAllByOrderByCreatedAtDesc().stream()
-                                .map(this::toDTO)
-                                .collect(Collectors.toList());
+                return depositRequestRepository.findAllDTOs();
         }
 
         public List<DepositRequestDTO> getPendingDepositRequests() {
-                return depositRequestRepository.findByStatusOrderByCreatedAtDesc(RequestStatus.PENDING).stream()
-                                .map(this::toDTO)
-                                .collect(Collectors.toList());
+                return depositRequestRepository.findDTOsByStatus(RequestStatus.PENDING);
         }
 
         public List<DepositRequestDTO> getUserDepositRequests(UUID userId) {
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-                return depositRequestRepository.findByUserOrderByCreatedAtDesc(user).stream()
-                                .map(this::toDTO)
-                                .collect(Collectors.toList());
+                if (!userRepository.existsById(userId)) {
+                        throw new IllegalArgumentException("User not found");
+                }
+                return depositRequestRepository.findDTOsByUserId(userId);
         }
 
         @Transactional
@@ -88,32 +91,13 @@ public class DepositService {
                 Portfolio portfolio = portfolioRepository.findByUserId(request.getUser().getId())
                                 .orElseThrow(() -> new IllegalArgumentException("Portfolio not found"));
 
-                BigDecimal currentInvested = portfolio.getTotalInvested() != null ? portfolio.getTotalInvested()
-                                : BigDecimal.ZERO;
-                BigDecimal currentValue = portfolio.getTotalValue() != null ? portfolio.getTotalValue()
-                                : BigDecimal.ZERO;
-
-                portfolio.setTotalInvested(currentInvested.add(request.getAmount()));
-                portfolio.setTotalValue(currentValue.add(request.getAmount()));
+                Transaction transaction = applyApproval(request, portfolio, adminNote);
                 portfolioRepository.save(portfolio);
-
-                // Create transaction
-                Transaction transaction = Transaction.builder()
-                                .user(request.getUser())
-                                .type(TransactionType.DEPOSIT)
-                                .amount(request.getAmount())
-                                .description("Deposit approved - " + (adminNote != null ? adminNote : ""))
-                                .screenshotPath(request.getProofImagePath())
-                                .build();
                 transactionRepository.save(transaction);
-
-                // Update request status
-                request.setStatus(RequestStatus.APPROVED);
-                request.setAdminNote(adminNote);
+                eventPublisher.publishEvent(ClientDataChangedEvent.of("DEPOSIT_APPROVED", request.getUser()));
                 DepositRequest updated = depositRequestRepository.save(request);
 
-                auditService.log("APPROVE_DEPOSIT", "ADMIN",
-                                "Approved deposit request " + requestId + " for amount " + request.getAmount());
+                auditService.log("APPROVE_DEPOSIT", "ADMIN", approvalAuditEntry(request));
 
                 return toDTO(updated);
         }
@@ -127,16 +111,115 @@ public class DepositService {
                         throw new IllegalStateException("Only pending requests can be rejected");
                 }
 
-                request.setStatus(RequestStatus.REJECTED);
-                request.setAdminNote(reason);
+                applyRejection(request, reason);
                 DepositRequest updated = depositRequestRepository.save(request);
 
-                auditService.log("REJECT_DEPOSIT", "ADMIN",
-                                "Rejected deposit request " + requestId + " - Reason: " + reason);
+                auditService.log("REJECT_DEPOSIT", "ADMIN", rejectionAuditEntry(request, reason));
 
                 return toDTO(updated);
         }
 
+        /**
+         * Approves a chunk of deposit requests in one transaction. Missing or non-pending
+         * requests are reported and skipped; portfolios are loaded once per client and the
+         * ledger, request and audit rows are written with saveAll.
+         */
+        @Transactional
+        public List<BatchResultDTO.ItemResult> approveDepositBatch(List<UUID> requestIds, String adminNote) {
+                List<DepositRequest> loaded = depositRequestRepository.findAllWithUserByIdIn(requestIds);
+                Set<UUID> userIds = new HashSet<>();
+                for (DepositRequest request : loaded) {
+                        userIds.add(request.getUser().getId());
+                }
+                Map<UUID, Portfolio> portfolios = new HashMap<>();
+                for (Portfolio portfolio : portfolioRepository.findByUserIdIn(userIds)) {
+                        portfolios.put(portfolio.getUser().getId(), portfolio);
+                }
+
+                List<Transaction> transactions = new ArrayList<>();
+                Map<UUID, Portfolio> touched = new HashMap<>();
+                List<String> auditEntries = new ArrayList<>();
+                BatchDecisionService.Decided<DepositRequest> approved = BatchDecisionService.decideEach(requestIds,
+                                loaded, DepositRequest::getId, "Deposit request not found",
+                                RequestStatus.APPROVED.name(), request -> {
+                                        requirePending(request, "approved");
+                                        Portfolio portfolio = portfolios.get(request.getUser().getId());
+                                        if (portfolio == null) {
+                                                throw new IllegalStateException("Portfolio not found");
+                                        }
+                                        transactions.add(applyApproval(request, portfolio, adminNote));
+                                        touched.put(portfolio.getId(), portfolio);
+                                        auditEntries.add(approvalAuditEntry(request));
+                                });
+
+                portfolioRepository.saveAll(touched.values());
+                if (!approved.requests().isEmpty()) {
+                        eventPublisher.publishEvent(ClientDataChangedEvent.of("DEPOSIT_APPROVED",
+                                        approved.requests().stream().map(DepositRequest::getUser).toList()));
+                }
+                transactionRepository.saveAll(transactions);
+                depositRequestRepository.saveAll(approved.requests());
+                auditService.logAll("APPROVE_DEPOSIT", "ADMIN", auditEntries);
+                return approved.results();
+        }
+
+        @Transactional
+        public List<BatchResultDTO.ItemResult> rejectDepositBatch(List<UUID> requestIds, String reason) {
+                List<String> auditEntries = new ArrayList<>();
+                BatchDecisionService.Decided<DepositRequest> rejected = BatchDecisionService.decideEach(requestIds,
+                                depositRequestRepository.findAllWithUserByIdIn(requestIds), DepositRequest::getId,
+                                "Deposit request not found", RequestStatus.REJECTED.name(), request -> {
+                                        requirePending(request, "rejected");
+                                        applyRejection(request, reason);
+                                        auditEntries.add(rejectionAuditEntry(request, reason));
+                                });
+
+                depositRequestRepository.saveAll(rejected.requests());
+                auditService.logAll("REJECT_DEPOSIT", "ADMIN", auditEntries);
+                return rejected.results();
+        }
+
+        private static void requirePending(DepositRequest request, String decision) {
+                if (request.getStatus() != RequestStatus.PENDING) {
+                        throw new IllegalStateException("Only pending requests can be " + decision);
+                }
+        }
+
+        // Credits the portfolio and marks the request approved; returns the unsaved ledger row
+        private Transaction applyApproval(DepositRequest request, Portfolio portfolio, String adminNote) {
+                BigDecimal currentInvested = portfolio.getTotalInvested() != null ? portfolio.getTotalInvested()
+                                : BigDecimal.ZERO;
+                BigDecimal currentValue = portfolio.getTotalValue() != null ? portfolio.getTotalValue()
+                                : BigDecimal.ZERO;
+
+                portfolio.setTotalInvested(currentInvested.add(request.getAmount()));
+                portfolio.setTotalValue(currentValue.add(request.getAmount()));
+
+                request.setStatus(RequestStatus.APPROVED);
+                request.setAdminNote(adminNote);
+
+                return Transaction.builder()
+                                .user(request.getUser())
+                                .type(TransactionType.DEPOSIT)
+                                .amount(request.getAmount())
+                                .description("Deposit approved - " + (adminNote != null ? adminNote : ""))
+                                .screenshotPath(request.getProofImagePath())
+                                .build();
+        }
+
+        private void applyRejection(DepositRequest request, String reason) {
+                request.setStatus(RequestStatus.REJECTED);
+                request.setAdminNote(reason);
+        }
+
+        private String approvalAuditEntry(DepositRequest request) {
+                return "Approved deposit request " + request.getId() + " for amount " + request.getAmount();
+        }
+
+        private String rejectionAuditEntry(DepositRequest request, String reason) {
+                return "Rejected deposit request " + request.getId() + " - Reason: " + reason;
+        }
+
         private DepositRequestDTO toDTO(DepositRequest request) {
                 User user = request.getUser();
                 return DepositRequestDTO.builder()
@@ -4,19 +4,28 @@ import com.enterprise.investmentanalytics.model.entity.GlobalConfiguration;
 import com.enterprise.investmentanalytics.repository.GlobalConfigRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class GlobalConfigService {
 
     private final GlobalConfigRepository configRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     // Keys
     public static final String FIXED_MONTHLY_RATE_PERCENT = "FIXED_MONTHLY_RATE_PERCENT";
@@ -33,35 +42,53 @@ public class GlobalConfigService {
     public static final String PROFIT_DURATION_VALUE = "PROFIT_DURATION_VALUE";
     public static final String PROFIT_DURATION_UNIT = "PROFIT_DURATION_UNIT"; // MINUTES, HOURS, DAYS, MONTHS
     public static final String PROFIT_CALCULATION_MODE = "PROFIT_CALCULATION_MODE"; // PRORATED, FULL_CYCLE
+    public static final String LEDGER_HOT_FROM = "LEDGER_HOT_FROM"; // yyyy-MM, maintained by partition maintenance
 
     @PostConstruct
     public void initDefaults() {
         // Seed default values if not present
-        seedIfNotExists(FIXED_MONTHLY_RATE_PERCENT, "4.0", "Fixed monthly profit percentage");
-        seedIfNotExists(COMPOUNDING_MONTHLY_RATE_PERCENT, "3.6", "Compounding monthly profit percentage");
-        seedIfNotExists(PROFIT_CALCULATION_PERIOD, "MONTHLY", "Calculation period (MONTHLY)");
-        seedIfNotExists(PAYOUT_WINDOW_START_DAY, "5", "Start day of payout window");
-        seedIfNotExists(PAYOUT_WINDOW_END_DAY, "10", "End day of payout window");
-        seedIfNotExists(USE_FIRST_MONTH_PRORATION, "true", "Enable first month proration");
-        seedIfNotExists(FIRST_MONTH_PRORATION_METHOD, "DAY_BASED", "Proration method: DAY_BASED or SLAB_BASED");
-        seedIfNotExists(MONTHLY_CUTOFF_DAY, "15", "Cutoff day if proration is disabled");
-        seedIfNotExists(USE_ADMIN_APPROVAL_DATE_AS_ENTRY_DATE, "true", "Use admin approval date as entry date");
-        seedIfNotExists(ALLOW_EARLY_EXIT_FOR_COMPOUNDING, "true", "Allow early exit for compounding portfolios");
-        seedIfNotExists(EXIT_EFFECTIVE_NEXT_CYCLE, "true", "Exit effective from next cycle");
-        seedIfNotExists(PROFIT_DURATION_VALUE, "1", "Duration value for profit cycle");
-        seedIfNotExists(PROFIT_DURATION_UNIT, "MONTHS",
-                "Duration unit for profit cycle (MINUTES, HOURS, DAYS, MONTHS)");
-        seedIfNotExists(PROFIT_CALCULATION_MODE, "PRORATED", "Calculation mode: PRORATED or FULL_CYCLE");
+        Map<String, String[]> defaults = new LinkedHashMap<>();
+        defaults.put(FIXED_MONTHLY_RATE_PERCENT, new String[] { "4.0", "Fixed monthly profit percentage" });
+        defaults.put(COMPOUNDING_MONTHLY_RATE_PERCENT, new String[] { "3.6", "Compounding monthly profit percentage" });
+        defaults.put(PROFIT_CALCULATION_PERIOD, new String[] { "MONTHLY", "Calculation period (MONTHLY)" });
+        defaults.put(PAYOUT_WINDOW_START_DAY, new String[] { "5", "Start day of payout window" });
+        defaults.put(PAYOUT_WINDOW_END_DAY, new String[] { "10", "End day of payout window" });
+        defaults.put(USE_FIRST_MONTH_PRORATION, new String[] { "true", "Enable first month proration" });
+        defaults.put(FIRST_MONTH_PRORATION_METHOD,
+                new String[] { "DAY_BASED", "Proration method: DAY_BASED or SLAB_BASED" });
+        defaults.put(MONTHLY_CUTOFF_DAY, new String[] { "15", "Cutoff day if proration is disabled" });
+        defaults.put(USE_ADMIN_APPROVAL_DATE_AS_ENTRY_DATE,
+                new String[] { "true", "Use admin approval date as entry date" });
+        defaults.put(ALLOW_EARLY_EXIT_FOR_COMPOUNDING,
+                new String[] { "true", "Allow early exit for compounding portfolios" });
+        defaults.put(EXIT_EFFECTIVE_NEXT_CYCLE, new String[] { "true", "Exit effective from next cycle" });
+        defaults.put(PROFIT_DURATION_VALUE, new String[] { "1", "Duration value for profit cycle" });
+        defaults.put(PROFIT_DURATION_UNIT,
+                new String[] { "MONTHS", "Duration unit for profit cycle (MINUTES, HOURS, DAYS, MONTHS)" });
+        defaults.put(PROFIT_CALCULATION_MODE, new String[] { "PRORATED", "Calculation mode: PRORATED or FULL_CYCLE" });
+        defaults.put(LEDGER_HOT_FROM, new String[] { "1970-01",
+                "First month still in the live ledger tables; older months are archived (managed automatically)" });
+        seedMissing(defaults);
     }
 
-    private void seedIfNotExists(String key, String defaultValue, String description) {
-        if (!configRepository.findByKey(key).isPresent()) {
-            configRepository.save(GlobalConfiguration.builder()
-                    .key(key)
-                    .value(defaultValue)
-                    .description(description)
-                    .build());
+    // One read for the keys already present, one batch insert for the rest
+    private void seedMissing(Map<String, String[]> defaults) {
+        Set<String> present = new HashSet<>();
+        configRepository.findAllById(defaults.keySet()).forEach(c -> present.add(c.getKey()));
+
+        List<Object[]> missing = new ArrayList<>();
+        defaults.forEach((key, valueAndDescription) -> {
+            if (!present.contains(key)) {
+                missing.add(new Object[] { key, valueAndDescription[0], valueAndDescription[1] });
+            }
+        });
+        if (missing.isEmpty()) {
+            return;
         }
+        // INSERT IGNORE: another instance starting at the same time may seed the same keys
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO global_configuration (config_key, config_value, description) "
+                + "VALUES (?, ?, ?)", missing);
+        log.info("Seeded {} missing configuration keys", missing.size());
     }
 
     public String getValue(String key) {
@@ -0,0 +1,168 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.JfrRecordingDTO;
+import com.enterprise.investmentanalytics.exception.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Takes a Java Flight Recorder recording of the running instance on demand.
+ * The recording includes the application's own events (see the jfr package)
+ * next to the JDK's. JFR stops the recording itself once its duration is up
+ * and writes it to a temporary .jfr file, so no thread waits for it; the
+ * caller polls the status and downloads the file, which is deleted after the
+ * download. One recording at a time.
+ */
+@Service
+@Slf4j
+public class JfrRecordingService {
+
+    private static final Set<String> PROFILES = Set.of("default", "profile");
+
+    private ActiveRecording current;
+
+    @Value("${app.jfr.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.jfr.max-duration-seconds:300}")
+    private int maxDurationSeconds;
+
+    // "default" is the low overhead continuous settings, "profile" samples more and costs more
+    public synchronized JfrRecordingDTO start(int durationSeconds, String profile) {
+        if (!enabled) {
+            throw new IllegalStateException("JFR recordings are disabled");
+        }
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new BadRequestException("durationSeconds must be between 1 and " + maxDurationSeconds);
+        }
+        if (!PROFILES.contains(profile)) {
+            throw new BadRequestException("profile must be one of " + PROFILES);
+        }
+        if (current != null && !current.isFinished()) {
+            throw new IllegalStateException("A JFR recording is already running");
+        }
+        // A finished recording nobody downloaded is replaced
+        discard();
+
+        Path file = null;
+        Recording jfr = null;
+        try {
+            file = Files.createTempFile("investment-analytics-", ".jfr");
+            jfr = new Recording(Configuration.getConfiguration(profile));
+            jfr.setName("admin-" + profile);
+            jfr.setToDisk(true);
+            jfr.setDestination(file);
+            jfr.setDuration(Duration.ofSeconds(durationSeconds));
+            jfr.start();
+        } catch (IOException | ParseException e) {
+            if (jfr != null) {
+                jfr.close();
+            }
+            deleteQuietly(file);
+            throw new IllegalStateException("JFR recording failed: " + e.getMessage(), e);
+        }
+        current = new ActiveRecording(jfr, file, profile, durationSeconds, LocalDateTime.now());
+        log.info("Started JFR recording {} ({}, {} s) to {}", jfr.getId(), profile, durationSeconds, file);
+        return current.toDTO();
+    }
+
+    public synchronized JfrRecordingDTO getRecording(long id) {
+        return find(id).toDTO();
+    }
+
+    /**
+     * Hands over the file of a completed recording. The caller streams it and
+     * then calls {@link #deleteQuietly}; the recording is forgotten here.
+     */
+    public synchronized Path takeFile(long id) {
+        ActiveRecording recording = find(id);
+        if (!recording.isFinished()) {
+            throw new BadRequestException("JFR recording " + id + " is still running until " + recording.endsAt());
+        }
+        if (recording.size() == null) {
+            discard();
+            throw new IllegalStateException("JFR recording " + id + " produced no file");
+        }
+        Path file = recording.file;
+        recording.jfr.close();
+        current = null;
+        return file;
+    }
+
+    public void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete JFR recording {}: {}", file, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void discard() {
+        if (current != null) {
+            current.jfr.close();
+            deleteQuietly(current.file);
+            current = null;
+        }
+    }
+
+    private ActiveRecording find(long id) {
+        if (current == null || current.jfr.getId() != id) {
+            throw new BadRequestException("JFR recording not found: " + id);
+        }
+        return current;
+    }
+
+    private record ActiveRecording(Recording jfr, Path file, String profile, int durationSeconds,
+                                   LocalDateTime startedAt) {
+
+        LocalDateTime endsAt() {
+            return startedAt.plusSeconds(durationSeconds);
+        }
+
+        boolean isFinished() {
+            RecordingState state = jfr.getState();
+            return state == RecordingState.STOPPED || state == RecordingState.CLOSED;
+        }
+
+        // Bytes written once JFR has dumped the stopped recording, null while empty or missing
+        Long size() {
+            try {
+                long size = Files.size(file);
+                return size > 0 ? size : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        JfrRecordingDTO toDTO() {
+            Long size = isFinished() ? size() : null;
+            String status = !isFinished() ? "RUNNING" : size != null ? "COMPLETED" : "FAILED";
+            return JfrRecordingDTO.builder()
+                    .id(jfr.getId())
+                    .profile(profile)
+                    .durationSeconds(durationSeconds)
+                    .status(status)
+                    .startedAt(startedAt)
+                    .endsAt(endsAt())
+                    .sizeBytes(size)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.ConcurrencyLimitDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive (AIMD) concurrency limits for heavy endpoint classes, see
+ * ConcurrencyLimited. Each limiter caps its in-flight requests: a request
+ * slower than the limiter's latency threshold cuts the limit by
+ * app.load-shedding.backoff-ratio, a fast one completing while the limiter is
+ * at least half busy raises it by one, within min-limit..max-limit. Keeping
+ * max-limit below the interactive pool size leaves connections for logins
+ * and client dashboards whatever the admins run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoadSheddingService {
+
+    private final Environment environment;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return environment.getProperty("app.load-shedding.enabled", Boolean.class, true);
+    }
+
+    // Null when the request must be shed
+    public Limiter tryAcquire(String name) {
+        Limiter limiter = limiters.computeIfAbsent(name, this::create);
+        return limiter.tryAcquire() ? limiter : null;
+    }
+
+    public long retryAfterSeconds(String name) {
+        Limiter limiter = limiters.get(name);
+        return limiter != null ? limiter.retryAfterSeconds() : 1;
+    }
+
+    public List<ConcurrencyLimitDTO> getLimits() {
+        return limiters.values().stream()
+                .map(Limiter::toDTO)
+                .sorted(Comparator.comparing(ConcurrencyLimitDTO::getName))
+                .toList();
+    }
+
+    private Limiter create(String name) {
+        int minLimit = setting(name, "min-limit", 1);
+        int maxLimit = Math.max(minLimit, setting(name, "max-limit", 4));
+        return new Limiter(name, minLimit, maxLimit,
+                Math.max(minLimit, Math.min(maxLimit, setting(name, "initial-limit", maxLimit))),
+                setting(name, "latency-threshold-ms", 2000),
+                environment.getProperty("app.load-shedding.backoff-ratio", Double.class, 0.9));
+    }
+
+    private int setting(String name, String key, int defaultValue) {
+        return environment.getProperty("app.load-shedding.limiters." + name + "." + key, Integer.class,
+                environment.getProperty("app.load-shedding.defaults." + key, Integer.class, defaultValue));
+    }
+
+    public static final class Limiter {
+        private static final double LATENCY_WEIGHT = 0.2;
+
+        private final String name;
+        private final int minLimit;
+        private final int maxLimit;
+        private final long latencyThresholdMs;
+        private final double backoffRatio;
+        private double limit;
+        private int inFlight;
+        private long accepted;
+        private long rejected;
+        private double avgLatencyMs;
+
+        Limiter(String name, int minLimit, int maxLimit, int initialLimit, long latencyThresholdMs,
+                double backoffRatio) {
+            this.name = name;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.limit = initialLimit;
+            this.latencyThresholdMs = latencyThresholdMs;
+            this.backoffRatio = backoffRatio;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                rejected++;
+                return false;
+            }
+            inFlight++;
+            accepted++;
+            return true;
+        }
+
+        public synchronized void release(long latencyMs) {
+            inFlight--;
+            avgLatencyMs = avgLatencyMs == 0 ? latencyMs
+                    : avgLatencyMs + LATENCY_WEIGHT * (latencyMs - avgLatencyMs);
+            double previous = limit;
+            if (latencyMs > latencyThresholdMs) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if ((inFlight + 1) * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            if ((int) previous != (int) limit) {
+                log.info("Concurrency limit of {} now {} (last request {} ms)", name, (int) limit, latencyMs);
+            }
+        }
+
+        // About one average request, so a retry is likely to find a free slot
+        synchronized long retryAfterSeconds() {
+            return Math.max(1, (long) Math.ceil(avgLatencyMs / 1000.0));
+        }
+
+        synchronized ConcurrencyLimitDTO toDTO() {
+            return ConcurrencyLimitDTO.builder()
+                    .name(name)
+                    .limit(limit)
+                    .minLimit(minLimit)
+                    .maxLimit(maxLimit)
+                    .inFlight(inFlight)
+                    .accepted(accepted)
+                    .rejected(rejected)
+                    .latencyThresholdMs(latencyThresholdMs)
+                    .avgLatencyMs(avgLatencyMs)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO;
+import com.enterprise.investmentanalytics.config.Workload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Runs long maintenance work (purges, rekeys) on the batch workload and keeps
+ * an in-memory registry of recent jobs so admins can poll their progress.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MaintenanceJobService {
+
+    private final Map<String, MaintenanceJob> jobs = new ConcurrentHashMap<>();
+    private final WorkloadExecutorService workloadExecutorService;
+
+    @Value("${app.maintenance.retained-jobs:50}")
+    private int retainedJobs;
+
+    public MaintenanceJobDTO submit(String type, String target, String requestedBy, Consumer<MaintenanceJob> work) {
+        MaintenanceJob job = new MaintenanceJob(UUID.randomUUID().toString(), type, target, requestedBy);
+
+        // Jobs run on the batch workload's threads and connection pool
+        workloadExecutorService.submit(Workload.BATCH, () -> {
+            job.status = "RUNNING";
+            job.startedAt = LocalDateTime.now();
+            try {
+                work.accept(job);
+                job.status = "COMPLETED";
+                log.info("Maintenance job {} ({} {}) completed: {}", job.id, type, target, job.progress);
+            } catch (Exception e) {
+                job.status = "FAILED";
+                job.error = e.getMessage();
+                log.error("Maintenance job {} ({} {}) failed: {}", job.id, type, target, e.getMessage(), e);
+            } finally {
+                job.currentStep = null;
+                job.finishedAt = LocalDateTime.now();
+            }
+        });
+        jobs.put(job.id, job);
+        evictFinished();
+        return job.toDTO();
+    }
+
+    public List<MaintenanceJobDTO> getJobs() {
+        List<MaintenanceJobDTO> result = new ArrayList<>();
+        for (MaintenanceJob job : jobs.values()) {
+            result.add(job.toDTO());
+        }
+        result.sort(Comparator.comparing(MaintenanceJobDTO::getSubmittedAt).reversed());
+        return result;
+    }
+
+    public MaintenanceJobDTO getJob(String id) {
+        MaintenanceJob job = jobs.get(id);
+        if (job == null) {
+            throw new IllegalArgumentException("Maintenance job not found: " + id);
+        }
+        return job.toDTO();
+    }
+
+    // Keeps the registry bounded; running jobs are never evicted
+    private void evictFinished() {
+        if (jobs.size() <= retainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .limit(jobs.size() - retainedJobs)
+                .map(job -> job.id)
+                .toList()
+                .forEach(jobs::remove);
+    }
+
+    /**
+     * Progress handle passed to the job's work. Counters are updated by the job
+     * thread and read by request threads.
+     */
+    public static class MaintenanceJob {
+        private final String id;
+        private final String type;
+        private final String target;
+        private final String requestedBy;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final Map<String, Long> progress = Collections.synchronizedMap(new LinkedHashMap<>());
+        private volatile String status = "QUEUED";
+        private volatile String currentStep;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        MaintenanceJob(String id, String type, String target, String requestedBy) {
+            this.id = id;
+            this.type = type;
+            this.target = target;
+            this.requestedBy = requestedBy;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void step(String step) {
+            this.currentStep = step;
+            progress.putIfAbsent(step, 0L);
+        }
+
+        public void add(String step, long count) {
+            progress.merge(step, count, Long::sum);
+        }
+
+        MaintenanceJobDTO toDTO() {
+            Map<String, Long> progressCopy;
+            synchronized (progress) {
+                progressCopy = new LinkedHashMap<>(progress);
+            }
+            return MaintenanceJobDTO.builder()
+                    .id(id)
+                    .type(type)
+                    .target(target)
+                    .requestedBy(requestedBy)
+                    .status(status)
+                    .currentStep(currentStep)
+                    .progress(progressCopy)
+                    .error(error)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
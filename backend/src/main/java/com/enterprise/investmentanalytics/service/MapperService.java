@@ -1,5 +1,6 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.dto.projection.TransactionRow;
 import com.enterprise.investmentanalytics.dto.response.TransactionResponse;
 import com.enterprise.investmentanalytics.model.entity.Transaction;
 import com.enterprise.investmentanalytics.model.entity.User;
@@ -16,7 +17,31 @@ public class MapperService {
     private final S3Service s3Service;
 
     public TransactionResponse toTransactionResponse(Transaction transaction) {
-        String screenshotUrl = transaction.getScreenshotPath();
+        return TransactionResponse.builder()
+                .id(transaction.getId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .messageContent(transaction.getMessageContent())
+                .screenshotPath(screenshotUrl(transaction.getScreenshotPath()))
+                .date(transaction.getCreatedAt())
+                .build();
+    }
+
+    public TransactionResponse toTransactionResponse(TransactionRow row) {
+        return TransactionResponse.builder()
+                .id(row.getId())
+                .type(row.getType())
+                .amount(row.getAmount())
+                .description(row.getDescription())
+                .messageContent(row.getMessageContent())
+                .screenshotPath(screenshotUrl(row.getScreenshotPath()))
+                .date(row.getCreatedAt())
+                .build();
+    }
+
+    private String screenshotUrl(String screenshotPath) {
+        String screenshotUrl = screenshotPath;
         // If it's not a local path (heuristic), try to sign it
         if (screenshotUrl != null && !screenshotUrl.startsWith("uploads")) {
             try {
@@ -28,15 +53,6 @@ public class MapperService {
                 // misconfig)
             }
         }
-
-        return TransactionResponse.builder()
-                .id(transaction.getId())
-                .type(transaction.getType())
-                .amount(transaction.getAmount())
-                .description(transaction.getDescription())
-                .messageContent(transaction.getMessageContent())
-                .screenshotPath(screenshotUrl)
-                .date(transaction.getCreatedAt())
-                .build();
+        return screenshotUrl;
     }
 }
@@ -0,0 +1,272 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps the monthly partitions of transactions and monthly_profit_history (see
+ * phase6_ledger_partitioning.sql) ahead of the calendar and moves closed months
+ * out of the live tables.
+ *
+ * A month older than the hot window is archived in one transaction: its ledger
+ * rows are folded into ledger_period_summaries, both partitions are copied to
+ * the *_archive tables, the copies are checked against the source counts and
+ * LEDGER_HOT_FROM is advanced past the month. The partitions are dropped
+ * afterwards; until then readers ignore them because they filter on
+ * LEDGER_HOT_FROM.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private static final ManagedTable LEDGER = new ManagedTable("transactions", "transactions_archive", false);
+    private static final ManagedTable PROFIT_HISTORY = new ManagedTable("monthly_profit_history",
+            "monthly_profit_history_archive", true);
+    private static final List<ManagedTable> TABLES = List.of(LEDGER, PROFIT_HISTORY);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GlobalConfigService configService;
+    private final MaintenanceJobService maintenanceJobService;
+    private final ScheduledJobService scheduledJobService;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private PartitionMaintenanceService self;
+
+    @Value("${app.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partitioning.hot-months:12}")
+    private int hotMonths;
+
+    @Value("${app.partitioning.archive-enabled:true}")
+    private boolean archiveEnabled;
+
+    /**
+     * Start of the live ledger. Queries bounded by this instant only touch hot
+     * partitions; everything before it is in the summaries and archive tables.
+     */
+    // Name of the monthly partition holding the given month's rows
+    public static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    public LocalDateTime hotFrom() {
+        return hotFromMonth().atDay(1).atStartOfDay();
+    }
+
+    public Map<String, Object> getPartitionStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("hotFrom", hotFromMonth().toString());
+        status.put("partitions", jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME AS tableName, PARTITION_NAME AS partitionName, "
+                        + "PARTITION_DESCRIPTION AS lessThan, TABLE_ROWS AS estimatedRows "
+                        + "FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                        + "AND TABLE_NAME IN (?, ?) AND PARTITION_NAME IS NOT NULL "
+                        + "ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION",
+                LEDGER.name, PROFIT_HISTORY.name));
+        return status;
+    }
+
+    public MaintenanceJobDTO startMaintenance(String requestedBy) {
+        return maintenanceJobService.submit("PARTITION_MAINTENANCE", LEDGER.name + ", " + PROFIT_HISTORY.name,
+                requestedBy, this::maintain);
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 30 2 * * *}")
+    public void scheduledMaintenance() {
+        // Only submits the work; its progress is tracked as a maintenance job
+        scheduledJobService.run("partition-maintenance", () -> {
+            startMaintenance("scheduler");
+            return 0L;
+        });
+    }
+
+    private void maintain(MaintenanceJobService.MaintenanceJob job) {
+        YearMonth current = YearMonth.now();
+
+        job.step("create partitions");
+        for (ManagedTable table : TABLES) {
+            List<String> partitions = partitionNames(table);
+            if (partitions.isEmpty()) {
+                log.warn("{} is not partitioned; schema migration 6 has not been applied", table.name);
+                continue;
+            }
+            job.add(table.name + ".created", addFuturePartitions(table, partitions, current.plusMonths(monthsAhead)));
+        }
+
+        if (archiveEnabled) {
+            archiveClosedMonths(job, current.minusMonths(hotMonths));
+        }
+    }
+
+    // Splits new monthly partitions off the (normally empty) catch-all partition
+    private int addFuturePartitions(ManagedTable table, List<String> partitions, YearMonth until) {
+        YearMonth latest = null;
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && (latest == null || month.isAfter(latest))) {
+                latest = month;
+            }
+        }
+        if (latest == null || !partitions.contains(FUTURE_PARTITION)) {
+            log.warn("{} has no monthly partitions to extend", table.name);
+            return 0;
+        }
+
+        StringBuilder definitions = new StringBuilder();
+        int created = 0;
+        for (YearMonth month = latest.plusMonths(1); !month.isAfter(until); month = month.plusMonths(1)) {
+            definitions.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN (").append(table.upperBound(month)).append("), ");
+            created++;
+        }
+        if (created == 0) {
+            return 0;
+        }
+
+        definitions.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN ")
+                .append(table.byPeriodColumns ? "(MAXVALUE, MAXVALUE)" : "MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + table.name + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + definitions + ")");
+        log.info("Added {} monthly partitions to {} up to {}", created, table.name, until);
+        return created;
+    }
+
+    private void archiveClosedMonths(MaintenanceJobService.MaintenanceJob job, YearMonth firstHotMonth) {
+        List<String> ledgerPartitions = partitionNames(LEDGER);
+        List<String> historyPartitions = partitionNames(PROFIT_HISTORY);
+
+        // Oldest first, so LEDGER_HOT_FROM only ever moves forward over contiguous months
+        TreeSet<YearMonth> closed = new TreeSet<>();
+        for (String partition : ledgerPartitions) {
+            addIfClosed(closed, partition, firstHotMonth);
+        }
+        for (String partition : historyPartitions) {
+            addIfClosed(closed, partition, firstHotMonth);
+        }
+
+        for (YearMonth month : closed) {
+            String partition = month.format(PARTITION_NAME);
+            boolean inLedger = ledgerPartitions.contains(partition);
+            boolean inHistory = historyPartitions.contains(partition);
+
+            job.step("archive " + month);
+            if (!month.isBefore(hotFromMonth())) {
+                long[] archived = self.archiveMonth(month, inLedger, inHistory);
+                job.add(LEDGER.archiveName, archived[0]);
+                job.add(PROFIT_HISTORY.archiveName, archived[1]);
+            }
+
+            // The month is committed to the archive tier; its partitions are no longer read
+            if (inLedger) {
+                dropPartition(LEDGER, partition);
+            }
+            if (inHistory) {
+                dropPartition(PROFIT_HISTORY, partition);
+            }
+        }
+    }
+
+    @Transactional
+    public long[] archiveMonth(YearMonth month, boolean inLedger, boolean inHistory) {
+        String partition = month.format(PARTITION_NAME);
+        long ledgerRows = 0;
+        long historyRows = 0;
+
+        if (inLedger) {
+            jdbcTemplate.update("INSERT INTO ledger_period_summaries "
+                    + "(id, user_id, year, month, type, entry_count, total_amount, archived_at) "
+                    + "SELECT UUID_TO_BIN(UUID(), 1), user_id, YEAR(created_at), MONTH(created_at), type, "
+                    + "COUNT(*), SUM(amount), NOW(6) FROM transactions PARTITION (" + partition + ") "
+                    + "GROUP BY user_id, YEAR(created_at), MONTH(created_at), type "
+                    // PROFIT rows of the month may already have been folded in by profit compaction
+                    + "ON DUPLICATE KEY UPDATE entry_count = entry_count + VALUES(entry_count), "
+                    + "total_amount = total_amount + VALUES(total_amount), archived_at = VALUES(archived_at)");
+            ledgerRows = copyPartition(LEDGER, partition);
+        }
+        if (inHistory) {
+            historyRows = copyPartition(PROFIT_HISTORY, partition);
+        }
+
+        configService.updateValue(GlobalConfigService.LEDGER_HOT_FROM, month.plusMonths(1).toString());
+        log.info("Archived {}: {} ledger rows, {} profit history rows", month, ledgerRows, historyRows);
+        return new long[] { ledgerRows, historyRows };
+    }
+
+    // Archive tables are created with LIKE, so the column lists are identical
+    private long copyPartition(ManagedTable table, String partition) {
+        Long source = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table.name + " PARTITION (" + partition + ")", Long.class);
+        long copied = jdbcTemplate.update(
+                "INSERT INTO " + table.archiveName + " SELECT * FROM " + table.name + " PARTITION (" + partition + ")");
+        if (source == null || copied != source) {
+            throw new IllegalStateException("Archive of " + table.name + " " + partition + " copied " + copied
+                    + " of " + source + " rows");
+        }
+        return copied;
+    }
+
+    private void dropPartition(ManagedTable table, String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table.name + " DROP PARTITION " + partition);
+        log.info("Dropped partition {} of {}", partition, table.name);
+    }
+
+    private List<String> partitionNames(ManagedTable table) {
+        return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                + "ORDER BY PARTITION_ORDINAL_POSITION", String.class, table.name);
+    }
+
+    private YearMonth hotFromMonth() {
+        return YearMonth.parse(configService.getValue(GlobalConfigService.LEDGER_HOT_FROM));
+    }
+
+    private static void addIfClosed(TreeSet<YearMonth> closed, String partition, YearMonth firstHotMonth) {
+        YearMonth month = monthOf(partition);
+        if (month != null && month.isBefore(firstHotMonth)) {
+            closed.add(month);
+        }
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (FUTURE_PARTITION.equals(partition)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition, PARTITION_NAME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record ManagedTable(String name, String archiveName, boolean byPeriodColumns) {
+
+        // Exclusive upper bound of the month's partition
+        String upperBound(YearMonth month) {
+            YearMonth next = month.plusMonths(1);
+            return byPeriodColumns
+                    ? next.getYear() + ", " + next.getMonthValue()
+                    : "TO_DAYS('" + next.atDay(1) + "')";
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
 import com.enterprise.investmentanalytics.dto.response.PayoutRequestDTO;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.PayoutRequest;
 import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.model.entity.User;
@@ -10,12 +12,18 @@ import com.enterprise.investmentanalytics.repository.PayoutRequestRepository;
 import com.enterprise.investmentanalytics.repository.PortfolioRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -26,6 +34,8 @@ public class PayoutRequestService {
     private final UserRepository userRepository;
     private final PortfolioRepository portfolioRepository;
     private final com.enterprise.investmentanalytics.repository.TransactionRepository transactionRepository;
+    private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PayoutRequestDTO createRequest(UUID userId, BigDecimal amount, String note) {
@@ -63,17 +73,11 @@ public class PayoutRequestService {
     }
 
     public List<PayoutRequestDTO> getAllRequests() {
-        return payoutRequestRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(this::mapToDTO)
-                .collect(java.util.stream.Collectors.toList());
+        return payoutRequestRepository.findAllDTOs();
     }
 
     public List<PayoutRequestDTO> getRequestsByStatus(WithdrawalStatus status) {
-        return payoutRequestRepository.findByStatusOrderByCreatedAtDesc(status)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(java.util.stream.Collectors.toList());
+        return payoutRequestRepository.findDTOsByStatus(status);
     }
 
     @Transactional
@@ -89,6 +93,114 @@ public class PayoutRequestService {
         Portfolio portfolio = portfolioRepository.findByUserId(request.getUser().getId())
                 .orElseThrow(() -> new RuntimeException("Portfolio not found"));
 
+        com.enterprise.investmentanalytics.model.entity.Transaction transaction = applyApproval(request, portfolio,
+                adminUsername);
+        portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("PAYOUT_APPROVED", request.getUser()));
+
+        // Create Transaction record for history
+        try {
+            transaction = transactionRepository.save(transaction);
+
+            // Store transaction reference in payout request
+            request.setTransactionIdReference(transaction.getId().toString());
+        } catch (Exception e) {
+            System.err.println("Failed to create transaction record: " + e.getMessage());
+            // Continue anyway - the payout is already processed
+        }
+
+        request = payoutRequestRepository.save(request);
+        return mapToDTO(request);
+    }
+
+    @Transactional
+    public PayoutRequestDTO rejectRequest(UUID requestId, String adminUsername, String reason) {
+        PayoutRequest request = payoutRequestRepository.findById(requestId)
+                .orElseThrow(() -> new RuntimeException("Request not found"));
+
+        if (request.getStatus() != WithdrawalStatus.PENDING) {
+            throw new RuntimeException("Request is not pending");
+        }
+
+        applyRejection(request, adminUsername, reason);
+
+        request = payoutRequestRepository.save(request);
+        return mapToDTO(request);
+    }
+
+    /**
+     * Approves a chunk of payout requests in one transaction. Each client's
+     * portfolio is loaded once and debited in submission order; the ledger rows
+     * are inserted together and their ids stamped back on the requests.
+     */
+    @Transactional
+    public List<BatchResultDTO.ItemResult> approveBatch(List<UUID> requestIds, String adminUsername) {
+        List<PayoutRequest> loaded = payoutRequestRepository.findAllWithUserByIdIn(requestIds);
+        Set<UUID> userIds = new HashSet<>();
+        for (PayoutRequest request : loaded) {
+            userIds.add(request.getUser().getId());
+        }
+        Map<UUID, Portfolio> portfolios = new HashMap<>();
+        for (Portfolio portfolio : portfolioRepository.findByUserIdIn(userIds)) {
+            portfolios.put(portfolio.getUser().getId(), portfolio);
+        }
+
+        List<com.enterprise.investmentanalytics.model.entity.Transaction> transactions = new ArrayList<>();
+        Map<UUID, Portfolio> touched = new HashMap<>();
+        List<String> auditEntries = new ArrayList<>();
+        BatchDecisionService.Decided<PayoutRequest> approved = BatchDecisionService.decideEach(requestIds, loaded,
+                PayoutRequest::getId, "Request not found", WithdrawalStatus.APPROVED.name(), request -> {
+                    requirePending(request);
+                    Portfolio portfolio = portfolios.get(request.getUser().getId());
+                    if (portfolio == null) {
+                        throw new IllegalStateException("Portfolio not found");
+                    }
+                    transactions.add(applyApproval(request, portfolio, adminUsername));
+                    touched.put(portfolio.getId(), portfolio);
+                    auditEntries.add("Approved payout request " + request.getId() + " for amount "
+                            + request.getAmount());
+                });
+
+        portfolioRepository.saveAll(touched.values());
+        if (!approved.requests().isEmpty()) {
+            eventPublisher.publishEvent(ClientDataChangedEvent.of("PAYOUT_APPROVED",
+                    approved.requests().stream().map(PayoutRequest::getUser).toList()));
+        }
+        transactionRepository.saveAll(transactions);
+        // Transactions and approved requests are built in the same order
+        for (int i = 0; i < approved.requests().size(); i++) {
+            approved.requests().get(i).setTransactionIdReference(transactions.get(i).getId().toString());
+        }
+        payoutRequestRepository.saveAll(approved.requests());
+        auditService.logAll("APPROVE_PAYOUT", "ADMIN", auditEntries);
+        return approved.results();
+    }
+
+    @Transactional
+    public List<BatchResultDTO.ItemResult> rejectBatch(List<UUID> requestIds, String adminUsername, String reason) {
+        List<String> auditEntries = new ArrayList<>();
+        BatchDecisionService.Decided<PayoutRequest> rejected = BatchDecisionService.decideEach(requestIds,
+                payoutRequestRepository.findAllWithUserByIdIn(requestIds), PayoutRequest::getId,
+                "Request not found", WithdrawalStatus.REJECTED.name(), request -> {
+                    requirePending(request);
+                    applyRejection(request, adminUsername, reason);
+                    auditEntries.add("Rejected payout request " + request.getId() + " - Reason: " + reason);
+                });
+
+        payoutRequestRepository.saveAll(rejected.requests());
+        auditService.logAll("REJECT_PAYOUT", "ADMIN", auditEntries);
+        return rejected.results();
+    }
+
+    private static void requirePending(PayoutRequest request) {
+        if (request.getStatus() != WithdrawalStatus.PENDING) {
+            throw new IllegalStateException("Request is not pending");
+        }
+    }
+
+    // Deducts from profit first, then investment; returns the unsaved ledger row
+    private com.enterprise.investmentanalytics.model.entity.Transaction applyApproval(PayoutRequest request,
+            Portfolio portfolio, String adminUsername) {
         BigDecimal availableProfit = portfolio.getAvailableProfit() != null ? portfolio.getAvailableProfit()
                 : BigDecimal.ZERO;
         BigDecimal totalValue = portfolio.getTotalValue() != null ? portfolio.getTotalValue() : BigDecimal.ZERO;
@@ -121,52 +233,27 @@ public class PayoutRequestService {
         portfolio.setAvailableProfit(newAvailableProfit);
         portfolio.setTotalInvested(newTotalInvested);
         portfolio.setTotalValue(newAvailableProfit.add(newTotalInvested));
-        portfolioRepository.save(portfolio);
-
-        // Create Transaction record for history
-        try {
-            com.enterprise.investmentanalytics.model.entity.Transaction transaction = com.enterprise.investmentanalytics.model.entity.Transaction
-                    .builder()
-                    .user(request.getUser())
-                    .type(com.enterprise.investmentanalytics.model.enums.TransactionType.PAYOUT)
-                    .amount(payoutAmount)
-                    .description("Payout approved by " + adminUsername
-                            + (request.getNote() != null ? " - " + request.getNote() : ""))
-                    .build();
-            transaction = transactionRepository.save(transaction);
-
-            // Store transaction reference in payout request
-            request.setTransactionIdReference(transaction.getId().toString());
-        } catch (Exception e) {
-            System.err.println("Failed to create transaction record: " + e.getMessage());
-            // Continue anyway - the payout is already processed
-        }
 
         // Mark request as approved
         request.setStatus(WithdrawalStatus.APPROVED);
         request.setProcessedBy(adminUsername);
         request.setProcessedAt(LocalDateTime.now());
 
-        request = payoutRequestRepository.save(request);
-        return mapToDTO(request);
+        return com.enterprise.investmentanalytics.model.entity.Transaction
+                .builder()
+                .user(request.getUser())
+                .type(com.enterprise.investmentanalytics.model.enums.TransactionType.PAYOUT)
+                .amount(payoutAmount)
+                .description("Payout approved by " + adminUsername
+                        + (request.getNote() != null ? " - " + request.getNote() : ""))
+                .build();
     }
 
-    @Transactional
-    public PayoutRequestDTO rejectRequest(UUID requestId, String adminUsername, String reason) {
-        PayoutRequest request = payoutRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-
-        if (request.getStatus() != WithdrawalStatus.PENDING) {
-            throw new RuntimeException("Request is not pending");
-        }
-
+    private void applyRejection(PayoutRequest request, String adminUsername, String reason) {
         request.setStatus(WithdrawalStatus.REJECTED);
         request.setRejectionReason(reason);
         request.setProcessedBy(adminUsername);
         request.setProcessedAt(LocalDateTime.now());
-
-        request = payoutRequestRepository.save(request);
-        return mapToDTO(request);
     }
 
     private PayoutRequestDTO mapToDTO(PayoutRequest request) {
@@ -0,0 +1,227 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
+import com.enterprise.investmentanalytics.dto.response.PayoutWindowForecastDTO;
+import com.enterprise.investmentanalytics.model.entity.PayoutRequest;
+import com.enterprise.investmentanalytics.model.entity.Portfolio;
+import com.enterprise.investmentanalytics.model.enums.ProfitMode;
+import com.enterprise.investmentanalytics.model.enums.WithdrawalStatus;
+import com.enterprise.investmentanalytics.repository.PayoutRequestRepository;
+import com.enterprise.investmentanalytics.repository.PortfolioRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Monthly payout window: forecasts the withdrawable profit of FIXED portfolios
+ * and turns it into PayoutRequest rows in bulk once the window opens.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PayoutWindowService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PayoutRequestRepository payoutRequestRepository;
+    private final BatchDecisionService batchDecisionService;
+    private final ScheduledJobService scheduledJobService;
+    private final GlobalConfigService configService;
+    private final EntityManager entityManager;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private PayoutWindowService self;
+
+    @Value("${app.payout-window.insert-chunk-size:500}")
+    private int insertChunkSize;
+
+    @Value("${app.payout-window.auto-generate:true}")
+    private boolean autoGenerate;
+
+    public PayoutWindowForecastDTO forecast() {
+        LocalDate today = LocalDate.now();
+        YearMonth windowMonth = resolveWindowMonth(today);
+        LocalDate windowStart = windowStart(windowMonth);
+        LocalDate windowEnd = windowEnd(windowMonth);
+        String windowNote = windowNote(windowMonth);
+
+        Set<UUID> alreadyRequested = new HashSet<>(
+                payoutRequestRepository.findUserIdsWithStatusOrNote(WithdrawalStatus.PENDING, windowNote));
+
+        List<PayoutWindowForecastDTO.ClientLiability> clients = new ArrayList<>();
+        BigDecimal totalLiability = BigDecimal.ZERO;
+        for (Portfolio portfolio : portfolioRepository.findWithdrawableByProfitMode(ProfitMode.FIXED)) {
+            totalLiability = totalLiability.add(portfolio.getAvailableProfit());
+            clients.add(PayoutWindowForecastDTO.ClientLiability.builder()
+                    .clientId(portfolio.getUser().getId())
+                    .userId(portfolio.getUser().getUserId())
+                    .name(portfolio.getUser().getName())
+                    .availableProfit(portfolio.getAvailableProfit())
+                    .alreadyRequested(alreadyRequested.contains(portfolio.getUser().getId()))
+                    .build());
+        }
+
+        Object[] pending = payoutRequestRepository.countAndSumByStatus(WithdrawalStatus.PENDING).get(0);
+
+        return PayoutWindowForecastDTO.builder()
+                .windowStart(windowStart)
+                .windowEnd(windowEnd)
+                .windowOpen(!today.isBefore(windowStart) && !today.isAfter(windowEnd))
+                .windowNote(windowNote)
+                .eligibleClients(clients.size())
+                .totalLiability(totalLiability)
+                .pendingPayoutCount(((Number) pending[0]).longValue())
+                .pendingPayoutAmount((BigDecimal) pending[1])
+                .clients(clients)
+                .build();
+    }
+
+    /**
+     * Creates one PENDING payout request per FIXED portfolio with withdrawable
+     * profit. Clients that already have an open payout, or one generated for this
+     * window, are skipped so the job can be re-run safely.
+     */
+    @Transactional
+    public Map<String, Object> generateWindowPayouts() {
+        YearMonth windowMonth = resolveWindowMonth(LocalDate.now());
+        String windowNote = windowNote(windowMonth);
+
+        Set<UUID> skip = new HashSet<>(
+                payoutRequestRepository.findUserIdsWithStatusOrNote(WithdrawalStatus.PENDING, windowNote));
+
+        List<PayoutRequest> chunk = new ArrayList<>(insertChunkSize);
+        int created = 0;
+        int skipped = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (Portfolio portfolio : portfolioRepository.findWithdrawableByProfitMode(ProfitMode.FIXED)) {
+            if (skip.contains(portfolio.getUser().getId())) {
+                skipped++;
+                continue;
+            }
+            chunk.add(PayoutRequest.builder()
+                    .user(portfolio.getUser())
+                    .amount(portfolio.getAvailableProfit())
+                    .note(windowNote)
+                    .status(WithdrawalStatus.PENDING)
+                    .build());
+            totalAmount = totalAmount.add(portfolio.getAvailableProfit());
+
+            if (chunk.size() >= insertChunkSize) {
+                created += flushChunk(chunk);
+            }
+        }
+        created += flushChunk(chunk);
+
+        log.info("Payout window {}: created {} payout requests totalling {} ({} skipped)", windowMonth, created,
+                totalAmount, skipped);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("windowNote", windowNote);
+        result.put("created", created);
+        result.put("skipped", skipped);
+        result.put("totalAmount", totalAmount);
+        return result;
+    }
+
+    private int flushChunk(List<PayoutRequest> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        // Inserts are sent as JDBC batches (hibernate.jdbc.batch_size); flush and
+        // clear per chunk to keep the persistence context small.
+        payoutRequestRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+
+    /**
+     * Approves every pending payout generated for the current window through the
+     * chunked batch approval path. Callers run it on the BATCH workload.
+     */
+    public Map<String, Object> approveWindowPayouts(String adminUsername) {
+        String windowNote = windowNote(resolveWindowMonth(LocalDate.now()));
+        List<UUID> pendingIds = new ArrayList<>();
+        for (PayoutRequest request : payoutRequestRepository.findByStatusAndNote(WithdrawalStatus.PENDING,
+                windowNote)) {
+            pendingIds.add(request.getId());
+        }
+
+        int approved = 0;
+        Map<String, String> failures = new HashMap<>();
+        if (!pendingIds.isEmpty()) {
+            BatchResultDTO batch = batchDecisionService.approvePayouts(pendingIds, adminUsername);
+            approved = batch.getSucceeded();
+            for (BatchResultDTO.ItemResult item : batch.getResults()) {
+                if (!item.isSuccess()) {
+                    failures.put(item.getId().toString(), item.getMessage());
+                }
+            }
+        }
+
+        log.info("Payout window {}: approved {} of {} payout requests", windowNote, approved, pendingIds.size());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("windowNote", windowNote);
+        result.put("approved", approved);
+        result.put("failed", failures.size());
+        result.put("failures", failures);
+        return result;
+    }
+
+    // Generates the window's payout requests on the first check after it opens
+    @Scheduled(cron = "${app.payout-window.cron:0 0 6 * * *}")
+    public void generateOnWindowOpen() {
+        if (!autoGenerate) {
+            return;
+        }
+        scheduledJobService.run("payout-window-generation", () -> {
+            LocalDate today = LocalDate.now();
+            YearMonth month = YearMonth.from(today);
+            if (today.isBefore(windowStart(month)) || today.isAfter(windowEnd(month))) {
+                return null;
+            }
+            // Use self-proxy to ensure @Transactional works
+            Map<String, Object> result = self.generateWindowPayouts();
+            return ((Number) result.get("created")).longValue();
+        });
+    }
+
+    // The current month's window until it closes, otherwise next month's
+    private YearMonth resolveWindowMonth(LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        return today.isAfter(windowEnd(month)) ? month.plusMonths(1) : month;
+    }
+
+    private LocalDate windowStart(YearMonth month) {
+        int day = configService.getInt(GlobalConfigService.PAYOUT_WINDOW_START_DAY);
+        return month.atDay(Math.min(Math.max(day, 1), month.lengthOfMonth()));
+    }
+
+    private LocalDate windowEnd(YearMonth month) {
+        int day = configService.getInt(GlobalConfigService.PAYOUT_WINDOW_END_DAY);
+        return month.atDay(Math.min(Math.max(day, 1), month.lengthOfMonth()));
+    }
+
+    private String windowNote(YearMonth month) {
+        return "Payout window " + month;
+    }
+}
@@ -1,10 +1,12 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.repository.PortfolioRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -17,12 +19,17 @@ public class PortfolioService {
         private final PortfolioRepository portfolioRepository;
         private final UserRepository userRepository;
         private final GlobalConfigService globalConfigService;
+        private final ClientSummaryCache clientSummaryCache;
+        private final ApplicationEventPublisher eventPublisher;
 
         public PortfolioService(PortfolioRepository portfolioRepository, UserRepository userRepository,
-                        GlobalConfigService globalConfigService) {
+                        GlobalConfigService globalConfigService, ClientSummaryCache clientSummaryCache,
+                        ApplicationEventPublisher eventPublisher) {
                 this.portfolioRepository = portfolioRepository;
                 this.userRepository = userRepository;
                 this.globalConfigService = globalConfigService;
+                this.clientSummaryCache = clientSummaryCache;
+                this.eventPublisher = eventPublisher;
         }
 
         public Portfolio getPortfolioByEmail(String email) {
@@ -98,8 +105,9 @@ public class PortfolioService {
                 return result;
         }
 
-        public List<Portfolio> getAllPortfolios() {
-                return portfolioRepository.findAll();
+        @org.springframework.transaction.annotation.Transactional(readOnly = true)
+        public List<com.enterprise.investmentanalytics.dto.projection.PortfolioRow> getAllPortfolios() {
+                return portfolioRepository.findAllRows();
         }
 
         public Portfolio createPortfolioForUser(User user, BigDecimal initialValue, BigDecimal profitPercentage) {
@@ -119,70 +127,50 @@ public class PortfolioService {
                                 .isProrationEnabled(true)
                                 .allowEarlyExit(false)
                                 .build();
-                return portfolioRepository.save(portfolio);
+                Portfolio saved = portfolioRepository.save(portfolio);
+                eventPublisher.publishEvent(ClientDataChangedEvent.of("PORTFOLIO_CREATED", user));
+                return saved;
         }
 
         public Portfolio createPortfolioForUser(User user, BigDecimal initialValue) {
                 return createPortfolioForUser(user, initialValue, BigDecimal.ZERO);
         }
 
+        // The summary lists select only the columns they show; no entities are loaded or tracked.
+        // Served from ClientSummaryCache, which shares each load between identical concurrent calls, so the
+        // lists are read-only; the summary queries are @Transactional(readOnly = true) on UserRepository.
         public List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO> getAdminClientSummaries() {
-                // Fetch all clients (users with CLIENT role) to ensure we list everyone, not
-                // just those with portfolios
-                List<User> clients = userRepository
-                                .findByRoleAndIsDeletedFalse(
-                                                com.enterprise.investmentanalytics.model.enums.Role.CLIENT);
-
-                // Fetch all portfolios to map them to users
-                List<Portfolio> portfolios = portfolioRepository.findAllWithDetails();
-                java.util.Map<java.util.UUID, Portfolio> portfolioMap = portfolios.stream()
-                                .collect(java.util.stream.Collectors.toMap(p -> p.getUser().getId(),
-                                                java.util.function.Function.identity(), (p1, p2) -> p1));
-
-                return clients.stream()
-                                .map(client -> createSummaryDTO(client, portfolioMap.get(client.getId())))
-                                .sorted((c1, c2) -> c2.getCreatedOn().compareTo(c1.getCreatedOn()))
-                                .collect(java.util.stream.Collectors.toList());
+                // All active clients, with or without a portfolio
+                return clientSummaryCache.get("PortfolioService.getAdminClientSummaries", null,
+                                () -> userRepository
+                                                .findClientSummaryRows(com.enterprise.investmentanalytics.model.enums.Role.CLIENT,
+                                                                false)
+                                                .stream()
+                                                .map(this::createSummaryDTO)
+                                                .toList());
         }
 
         public List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO> getInactiveClientSummaries() {
-                // Fetch all deactivated clients (users with CLIENT role and isDeleted = true)
-                List<User> inactiveClients = userRepository
-                                .findByRoleAndIsDeletedTrue(com.enterprise.investmentanalytics.model.enums.Role.CLIENT);
-
-                // Fetch all portfolios to map them to users
-                List<Portfolio> portfolios = portfolioRepository.findAllWithDetails();
-                java.util.Map<java.util.UUID, Portfolio> portfolioMap = portfolios.stream()
-                                .collect(java.util.stream.Collectors.toMap(p -> p.getUser().getId(),
-                                                java.util.function.Function.identity(), (p1, p2) -> p1));
-
-                return inactiveClients.stream()
-                                .map(client -> createSummaryDTO(client, portfolioMap.get(client.getId())))
-                                .sorted((c1, c2) -> c2.getCreatedOn().compareTo(c1.getCreatedOn()))
-                                .collect(java.util.stream.Collectors.toList());
+                // All deactivated clients (isDeleted = true)
+                return clientSummaryCache.get("PortfolioService.getInactiveClientSummaries", null,
+                                () -> userRepository
+                                                .findClientSummaryRows(com.enterprise.investmentanalytics.model.enums.Role.CLIENT,
+                                                                true)
+                                                .stream()
+                                                .map(this::createSummaryDTO)
+                                                .toList());
         }
 
         public List<com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO> getClientSummariesByMediator(
                         java.util.UUID mediatorId) {
-                return portfolioRepository.findByUserMediatorId(mediatorId).stream()
-                                .map(this::mapToSummaryDTO)
-                                .collect(java.util.stream.Collectors.toList());
+                return clientSummaryCache.get("PortfolioService.getClientSummariesByMediator:" + mediatorId, mediatorId,
+                                () -> userRepository.findClientSummaryRowsByMediatorId(mediatorId).stream()
+                                                .map(this::createSummaryDTO)
+                                                .toList());
         }
 
-        private com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO mapToSummaryDTO(
-                        Portfolio portfolio) {
-                if (portfolio.getUser() == null) {
-                        return com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO.builder()
-                                        .email("unknown@deleted")
-                                        .clientName("Deleted User")
-                                        .status(com.enterprise.investmentanalytics.model.enums.UserStatus.INACTIVE)
-                                        .build();
-                }
-                return createSummaryDTO(portfolio.getUser(), portfolio);
-        }
-
-        private com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO createSummaryDTO(User user,
-                        Portfolio portfolio) {
+        private com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO createSummaryDTO(
+                        com.enterprise.investmentanalytics.dto.projection.ClientSummaryRow row) {
                 // Defaults
                 BigDecimal invested = BigDecimal.ZERO;
                 BigDecimal availableProfit = BigDecimal.ZERO;
@@ -191,44 +179,44 @@ public class PortfolioService {
                 Double growth = 0.0;
                 BigDecimal profitPercentage = BigDecimal.ZERO;
                 com.enterprise.investmentanalytics.model.enums.ProfitAccrualStatus profitStatus = com.enterprise.investmentanalytics.model.enums.ProfitAccrualStatus.ACTIVE;
+                boolean hasPortfolio = row.getPortfolioId() != null;
 
-                if (portfolio != null) {
-                        invested = portfolio.getTotalInvested() != null ? portfolio.getTotalInvested()
-                                        : BigDecimal.ZERO;
-                        availableProfit = portfolio.getAvailableProfit() != null ? portfolio.getAvailableProfit()
+                if (hasPortfolio) {
+                        invested = row.getTotalInvested() != null ? row.getTotalInvested() : BigDecimal.ZERO;
+                        availableProfit = row.getAvailableProfit() != null ? row.getAvailableProfit()
                                         : BigDecimal.ZERO;
                         currentBalance = invested.add(availableProfit);
-                        lifetimeProfit = portfolio.getTotalProfitEarned() != null ? portfolio.getTotalProfitEarned()
+                        lifetimeProfit = row.getTotalProfitEarned() != null ? row.getTotalProfitEarned()
                                         : BigDecimal.ZERO;
                         growth = invested.compareTo(BigDecimal.ZERO) > 0
                                         ? lifetimeProfit.divide(invested, 4, java.math.RoundingMode.HALF_UP)
                                                         .multiply(BigDecimal.valueOf(100))
                                                         .doubleValue()
                                         : 0.0;
-                        profitPercentage = portfolio.getProfitPercentage();
-                        profitStatus = portfolio.getProfitAccrualStatus();
+                        profitPercentage = row.getProfitPercentage();
+                        profitStatus = row.getProfitStatus();
                 }
 
                 return com.enterprise.investmentanalytics.dto.response.AdminClientSummaryDTO.builder()
-                                .clientId(user.getId())
-                                .clientName(user.getName())
-                                .email(user.getEmail())
+                                .clientId(row.getClientId())
+                                .clientName(row.getClientName())
+                                .email(row.getEmail())
                                 .totalInvested(invested)
                                 .currentValue(currentBalance)
                                 .profitOrLoss(lifetimeProfit)
                                 .availableProfit(availableProfit)
                                 .totalProfitEarned(lifetimeProfit)
                                 .growthPercentage(growth)
-                                .lastUpdated(portfolio != null ? portfolio.getUpdatedAt() : user.getUpdatedAt())
+                                .lastUpdated(hasPortfolio ? row.getPortfolioUpdatedAt() : row.getUserUpdatedAt())
                                 .profitPercentage(profitPercentage)
                                 .profitStatus(profitStatus)
-                                .userId(user.getUserId())
-                                .mobile(user.getMobile())
-                                .status(user.getStatus())
-                                .mediatorName(user.getMediator() != null ? user.getMediator().getName() : "Direct")
-                                .mediatorId(user.getMediator() != null ? user.getMediator().getId() : null)
-                                .mediatorUserId(user.getMediator() != null ? user.getMediator().getUserId() : null)
-                                .createdOn(user.getCreatedAt())
+                                .userId(row.getUserId())
+                                .mobile(row.getMobile())
+                                .status(row.getStatus())
+                                .mediatorName(row.getMediatorId() != null ? row.getMediatorName() : "Direct")
+                                .mediatorId(row.getMediatorId())
+                                .mediatorUserId(row.getMediatorUserId())
+                                .createdOn(row.getCreatedAt())
                                 .build();
         }
 
@@ -288,5 +276,6 @@ public class PortfolioService {
                 }
 
                 portfolioRepository.save(portfolio);
+                eventPublisher.publishEvent(ClientDataChangedEvent.of("PROFIT_CONFIG_UPDATED", portfolio.getUser()));
         }
 }
@@ -1,5 +1,8 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
+import com.enterprise.investmentanalytics.jfr.ProfitAccrualChunkEvent;
+import com.enterprise.investmentanalytics.jfr.ProfitBatchPhaseEvent;
 import com.enterprise.investmentanalytics.model.entity.MonthlyProfitHistory;
 import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.model.entity.Transaction;
@@ -10,10 +13,12 @@ import com.enterprise.investmentanalytics.model.enums.TransactionType;
 import com.enterprise.investmentanalytics.model.enums.UserStatus;
 import com.enterprise.investmentanalytics.repository.MonthlyProfitHistoryRepository;
 import com.enterprise.investmentanalytics.repository.PortfolioRepository;
+import com.enterprise.investmentanalytics.repository.ProfitPeriodRollupRepository;
 import com.enterprise.investmentanalytics.repository.TransactionRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,67 +27,122 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProfitCalculationService {
 
+    // Why a client gets no accrual in a run
+    public static final String SKIP_ALREADY_ACCRUED = "ALREADY_ACCRUED";
+    public static final String SKIP_NO_PORTFOLIO = "NO_PORTFOLIO";
+    public static final String SKIP_NO_INVESTMENT = "NO_INVESTMENT";
+    public static final String SKIP_ENTRY_DATE_IN_FUTURE = "ENTRY_DATE_IN_FUTURE";
+    public static final String SKIP_ZERO_PROFIT = "ZERO_PROFIT";
+
+    // Clients per ProfitAccrualChunkEvent
+    private static final int JFR_CHUNK_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PortfolioRepository portfolioRepository;
     private final MonthlyProfitHistoryRepository profitHistoryRepository;
+    private final ProfitPeriodRollupRepository profitPeriodRollupRepository;
     private final TransactionRepository transactionRepository;
     private final GlobalConfigService configService;
+    private final ProfitRunRegistry profitRunRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @org.springframework.beans.factory.annotation.Autowired
     @org.springframework.context.annotation.Lazy
     private ProfitCalculationService self;
 
-    public void calculateProfitBatch(LocalDateTime runTime) {
-        log.info("Starting batch profit calculation at {}", runTime);
+    // Returns the number of clients credited; progress is published to the ProfitRunRegistry
+    public int calculateProfitBatch(LocalDateTime runTime, String trigger) {
+        YearMonth cycleMonth = YearMonth.from(runTime);
+        int daysInMonth = cycleMonth.lengthOfMonth();
 
         // Configuration
-        int durationValue = configService.getInt(GlobalConfigService.PROFIT_DURATION_VALUE);
-        String durationUnit = configService.getValue(GlobalConfigService.PROFIT_DURATION_UNIT);
-
-        BigDecimal fixedRate = configService.getBigDecimal(GlobalConfigService.FIXED_MONTHLY_RATE_PERCENT)
-                .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
-        BigDecimal compoundingRate = configService.getBigDecimal(GlobalConfigService.COMPOUNDING_MONTHLY_RATE_PERCENT)
-                .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+        ProfitBatchPhaseEvent settingsPhase = phaseEvent("settings", trigger, cycleMonth);
+        RunRates rates = effectiveRates();
         boolean useProration = configService.getBoolean(GlobalConfigService.USE_FIRST_MONTH_PRORATION);
         String prorationMethod = configService.getValue(GlobalConfigService.FIRST_MONTH_PRORATION_METHOD);
         int cutoffDay = configService.getInt(GlobalConfigService.MONTHLY_CUTOFF_DAY);
         boolean useAdminApprovalDate = configService
                 .getBoolean(GlobalConfigService.USE_ADMIN_APPROVAL_DATE_AS_ENTRY_DATE);
-
-        YearMonth cycleMonth = YearMonth.from(runTime);
-        int daysInMonth = cycleMonth.lengthOfMonth();
-
-        // Adjust Rate for Duration (Simple Division)
-        String calculationMode = configService.getValue(GlobalConfigService.PROFIT_CALCULATION_MODE);
-
-        // Calculate Effective Rate based on Mode (Prorated vs Full Cycle)
-        BigDecimal effectiveFixedRate = calculateEffectiveRate(fixedRate, durationValue, durationUnit, calculationMode);
-        BigDecimal effectiveCompoundingRate = calculateEffectiveRate(compoundingRate, durationValue, durationUnit,
-                calculationMode);
-
-        List<User> activeClients = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == Role.CLIENT && u.getStatus() == UserStatus.ACTIVE && !u.isDeleted())
-                .toList();
-
-        for (User user : activeClients) {
-            try {
-                // Use self-proxy to ensure @Transactional works
-                self.processClientProfit(user, cycleMonth, effectiveFixedRate, effectiveCompoundingRate,
-                        useProration, prorationMethod, cutoffDay, useAdminApprovalDate, daysInMonth, runTime);
-            } catch (Exception e) {
-                log.error("Failed to calculate profit for user {}: {}", user.getEmail(), e.getMessage(), e);
+        settingsPhase.commit();
+
+        ProfitBatchPhaseEvent clientsPhase = phaseEvent("clients", trigger, cycleMonth);
+        List<User> activeClients = activeClients();
+        clientsPhase.items = activeClients.size();
+        clientsPhase.commit();
+
+        ProfitRunRegistry.ProfitRun run = profitRunRegistry.start(trigger, cycleMonth, activeClients.size());
+        // The run leaves the registry however it ends, failed if an exception escapes the loop
+        Throwable failure = null;
+        try {
+            run.partition(PartitionMaintenanceService.partitionName(cycleMonth));
+            ProfitBatchPhaseEvent accrualPhase = phaseEvent("accrual", trigger, cycleMonth);
+            ProfitAccrualChunkEvent chunk = null;
+            int processed = 0;
+            for (int i = 0; i < activeClients.size(); i++) {
+                if (i % JFR_CHUNK_SIZE == 0) {
+                    if (chunk != null) {
+                        chunk.commit();
+                    }
+                    chunk = new ProfitAccrualChunkEvent();
+                    chunk.chunk = i / JFR_CHUNK_SIZE;
+                    chunk.begin();
+                }
+                chunk.clients++;
+                User user = activeClients.get(i);
+                try {
+                    // Use self-proxy to ensure @Transactional works
+                    if (self.processClientProfit(user, cycleMonth, rates.fixed(), rates.compounding(),
+                            useProration, prorationMethod, cutoffDay, useAdminApprovalDate, daysInMonth, runTime)) {
+                        processed++;
+                        chunk.credited++;
+                        run.processed();
+                    } else {
+                        chunk.skipped++;
+                        run.skipped();
+                    }
+                } catch (Exception e) {
+                    chunk.failed++;
+                    run.failed();
+                    log.error("Failed to calculate profit for user {}: {}", user.getEmail(), e.getMessage(), e);
+                }
+            }
+            if (chunk != null) {
+                chunk.commit();
             }
+            accrualPhase.items = processed;
+            accrualPhase.commit();
+            return processed;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            profitRunRegistry.finish(run, failure);
         }
     }
 
+    private static ProfitBatchPhaseEvent phaseEvent(String phase, String trigger, YearMonth cycleMonth) {
+        ProfitBatchPhaseEvent event = new ProfitBatchPhaseEvent();
+        event.phase = phase;
+        event.trigger = trigger;
+        event.cycleMonth = cycleMonth.toString();
+        event.begin();
+        return event;
+    }
+
     private BigDecimal calculateEffectiveRate(BigDecimal monthlyRate, int durationValue, String durationUnit,
             String calculationMode) {
         // If Full Cycle (Accelerated) mode, we ignore the time duration ratio and
@@ -126,11 +186,12 @@ public class ProfitCalculationService {
     // Existing method kept for compatibility or manual triggers
     @Transactional
     public void calculateMonthlyProfit(int month, int year) {
-        calculateProfitBatch(LocalDateTime.of(year, month, 28, 0, 0)); // Fallback
+        calculateProfitBatch(LocalDateTime.of(year, month, 28, 0, 0), "manual"); // Fallback
     }
 
+    // Returns false when the client had nothing due
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
-    public void processClientProfit(User user, YearMonth cycleMonth, BigDecimal fixedRate, BigDecimal compoundingRate,
+    public boolean processClientProfit(User user, YearMonth cycleMonth, BigDecimal fixedRate, BigDecimal compoundingRate,
             boolean useProration, String prorationMethod, int cutoffDay, boolean useAdminApprovalDate,
             int daysInMonth, LocalDateTime runTime) {
 
@@ -139,49 +200,22 @@ public class ProfitCalculationService {
         // OR we need a more granular check (lastCalculatedAt).
         // For now, removing strict check for high frequency.
         String durationUnit = configService.getValue(GlobalConfigService.PROFIT_DURATION_UNIT);
-        if (durationUnit != null && "MONTHS".equalsIgnoreCase(durationUnit)) {
-            if (profitHistoryRepository
-                    .findFirstByUserIdAndMonthAndYear(user.getId(), cycleMonth.getMonthValue(), cycleMonth.getYear())
-                    .isPresent()) {
-                return;
-            }
-        }
-
-        Portfolio portfolio = portfolioRepository.findByUserId(user.getId()).orElse(null);
-        if (portfolio == null || portfolio.getTotalInvested().compareTo(BigDecimal.ZERO) <= 0) {
-            return;
-        }
-
-        LocalDate entryDate = (useAdminApprovalDate && user.getApprovedAt() != null)
-                ? user.getApprovedAt().toLocalDate()
-                : user.getCreatedAt().toLocalDate();
-
-        // Allow calculation even if entry date is very recent, unless it's strictly in
-        // future
-        if (entryDate.isAfter(runTime.toLocalDate())) {
-            return;
+        boolean alreadyAccrued = durationUnit != null && "MONTHS".equalsIgnoreCase(durationUnit)
+                && profitPeriodRollupRepository.existsByUserIdAndYearAndMonth(user.getId(), cycleMonth.getYear(),
+                        cycleMonth.getMonthValue());
+
+        Portfolio portfolio = alreadyAccrued ? null : portfolioRepository.findByUserId(user.getId()).orElse(null);
+        Accrual accrual = quote(user, portfolio, alreadyAccrued, fixedRate, compoundingRate, useAdminApprovalDate,
+                runTime);
+        if (!accrual.accrues()) {
+            return false;
         }
 
-        BigDecimal eligibleCapital = portfolio.getTotalInvested();
-        BigDecimal applicableRate = (portfolio.getProfitMode() == ProfitMode.COMPOUNDING) ? compoundingRate : fixedRate;
-
-        // Proration logic for first month is complex with high freq.
-        // If we prorate the RATE itself (above), we might not need "isFirstMonth"
-        // proration logic fraction
-        // unless we want to block the FIRST 2 mins if they joined 1 min ago.
-        BigDecimal fraction = BigDecimal.ONE;
-        boolean isProrated = false;
-
-        // Simplify first month logic for high frequency: just check if active.
-
-        BigDecimal profitAmount = eligibleCapital.multiply(applicableRate).multiply(fraction).setScale(0,
-                RoundingMode.CEILING);
-
-        if (profitAmount.compareTo(BigDecimal.ZERO) == 0)
-            return;
-
-        BigDecimal openingBalance = portfolio.getTotalInvested()
-                .add(Optional.ofNullable(portfolio.getAvailableProfit()).orElse(BigDecimal.ZERO));
+        BigDecimal eligibleCapital = accrual.eligibleCapital();
+        BigDecimal applicableRate = accrual.rate();
+        BigDecimal profitAmount = accrual.profitAmount();
+        BigDecimal openingBalance = accrual.openingBalance();
+        boolean isProrated = false; // See quote(): no first-month proration at high frequency
 
         // Update Portfolio
         if (portfolio.getProfitMode() == ProfitMode.COMPOUNDING) {
@@ -199,6 +233,7 @@ public class ProfitCalculationService {
                 Optional.ofNullable(portfolio.getTotalProfitEarned()).orElse(BigDecimal.ZERO).add(profitAmount));
 
         portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("PROFIT_ACCRUED", user));
 
         // Record History
         MonthlyProfitHistory history = MonthlyProfitHistory.builder()
@@ -219,6 +254,10 @@ public class ProfitCalculationService {
         // insert multiple times.
         // We rely on the user to have dropped that constraint or we accept failure.
         profitHistoryRepository.save(history);
+        profitPeriodRollupRepository.recordAccrual(user.getId().toString(), history.getYear(), history.getMonth(),
+                profitAmount, openingBalance, history.getClosingBalance(), history.getProfitPercentage(),
+                history.getProfitMode(), isProrated,
+                history.getCalculatedAt() != null ? history.getCalculatedAt() : LocalDateTime.now());
 
         // Record Transaction
         Transaction txn = Transaction.builder()
@@ -229,6 +268,125 @@ public class ProfitCalculationService {
                 .build();
         transactionRepository.save(txn);
 
-        log.info("Calculated profit for user {}: {}", user.getEmail(), profitAmount);
+        log.debug("Calculated profit for user {}: {}", user.getEmail(), profitAmount);
+        return true;
+    }
+
+    /**
+     * What one client would be credited at runTime, or why nothing is due. Pure
+     * computation over already loaded rows; shared by the write path and the
+     * dry run so both always agree.
+     */
+    public Accrual quote(User user, Portfolio portfolio, boolean alreadyAccrued, BigDecimal fixedRate,
+            BigDecimal compoundingRate, boolean useAdminApprovalDate, LocalDateTime runTime) {
+        if (alreadyAccrued) {
+            return Accrual.skipped(user, portfolio, SKIP_ALREADY_ACCRUED);
+        }
+        if (portfolio == null) {
+            return Accrual.skipped(user, null, SKIP_NO_PORTFOLIO);
+        }
+        if (portfolio.getTotalInvested().compareTo(BigDecimal.ZERO) <= 0) {
+            return Accrual.skipped(user, portfolio, SKIP_NO_INVESTMENT);
+        }
+
+        LocalDate entryDate = (useAdminApprovalDate && user.getApprovedAt() != null)
+                ? user.getApprovedAt().toLocalDate()
+                : user.getCreatedAt().toLocalDate();
+
+        // Allow calculation even if entry date is very recent, unless it's strictly in
+        // future
+        if (entryDate.isAfter(runTime.toLocalDate())) {
+            return Accrual.skipped(user, portfolio, SKIP_ENTRY_DATE_IN_FUTURE);
+        }
+
+        BigDecimal eligibleCapital = portfolio.getTotalInvested();
+        BigDecimal applicableRate = (portfolio.getProfitMode() == ProfitMode.COMPOUNDING) ? compoundingRate : fixedRate;
+
+        // Proration logic for first month is complex with high freq.
+        // If we prorate the RATE itself (above), we might not need "isFirstMonth"
+        // proration logic fraction
+        // unless we want to block the FIRST 2 mins if they joined 1 min ago.
+        BigDecimal fraction = BigDecimal.ONE;
+
+        // Simplify first month logic for high frequency: just check if active.
+
+        BigDecimal profitAmount = eligibleCapital.multiply(applicableRate).multiply(fraction).setScale(0,
+                RoundingMode.CEILING);
+
+        if (profitAmount.compareTo(BigDecimal.ZERO) == 0) {
+            return Accrual.skipped(user, portfolio, SKIP_ZERO_PROFIT);
+        }
+
+        BigDecimal openingBalance = portfolio.getTotalInvested()
+                .add(Optional.ofNullable(portfolio.getAvailableProfit()).orElse(BigDecimal.ZERO));
+        return new Accrual(user, portfolio, null, eligibleCapital, applicableRate, profitAmount, openingBalance);
+    }
+
+    /**
+     * Evaluates every active client as the batch would at runTime without
+     * writing anything. Clients, portfolios and the months already accrued are
+     * read once in a read-only transaction; the clients are then quoted in
+     * parallel from that snapshot.
+     */
+    @Transactional(readOnly = true)
+    public List<Accrual> dryRun(LocalDateTime runTime) {
+        RunRates rates = effectiveRates();
+        boolean useAdminApprovalDate = configService
+                .getBoolean(GlobalConfigService.USE_ADMIN_APPROVAL_DATE_AS_ENTRY_DATE);
+        String durationUnit = configService.getValue(GlobalConfigService.PROFIT_DURATION_UNIT);
+        YearMonth cycleMonth = YearMonth.from(runTime);
+
+        Set<UUID> accrued = "MONTHS".equalsIgnoreCase(durationUnit)
+                ? new HashSet<>(profitPeriodRollupRepository.findUserIdsByYearAndMonth(cycleMonth.getYear(),
+                        cycleMonth.getMonthValue()))
+                : Set.of();
+        Map<UUID, Portfolio> portfolios = portfolioRepository.findAllWithDetails().stream()
+                .collect(Collectors.toMap(p -> p.getUser().getId(), Function.identity(), (p1, p2) -> p1));
+
+        return activeClients().parallelStream()
+                .map(user -> quote(user, portfolios.get(user.getId()), accrued.contains(user.getId()),
+                        rates.fixed(), rates.compounding(), useAdminApprovalDate, runTime))
+                .toList();
+    }
+
+    private List<User> activeClients() {
+        return userRepository.findAll().stream()
+                .filter(u -> u.getRole() == Role.CLIENT && u.getStatus() == UserStatus.ACTIVE && !u.isDeleted())
+                .toList();
+    }
+
+    // Monthly rates adjusted to the configured accrual interval
+    private RunRates effectiveRates() {
+        int durationValue = configService.getInt(GlobalConfigService.PROFIT_DURATION_VALUE);
+        String durationUnit = configService.getValue(GlobalConfigService.PROFIT_DURATION_UNIT);
+        String calculationMode = configService.getValue(GlobalConfigService.PROFIT_CALCULATION_MODE);
+
+        BigDecimal fixedRate = configService.getBigDecimal(GlobalConfigService.FIXED_MONTHLY_RATE_PERCENT)
+                .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+        BigDecimal compoundingRate = configService.getBigDecimal(GlobalConfigService.COMPOUNDING_MONTHLY_RATE_PERCENT)
+                .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+
+        // Calculate Effective Rate based on Mode (Prorated vs Full Cycle)
+        return new RunRates(
+                calculateEffectiveRate(fixedRate, durationValue, durationUnit, calculationMode),
+                calculateEffectiveRate(compoundingRate, durationValue, durationUnit, calculationMode));
+    }
+
+    private record RunRates(BigDecimal fixed, BigDecimal compounding) {
+    }
+
+    /**
+     * One client's quoted accrual. skipReason is null when profit is due.
+     */
+    public record Accrual(User user, Portfolio portfolio, String skipReason, BigDecimal eligibleCapital,
+            BigDecimal rate, BigDecimal profitAmount, BigDecimal openingBalance) {
+
+        static Accrual skipped(User user, Portfolio portfolio, String reason) {
+            return new Accrual(user, portfolio, reason, null, null, BigDecimal.ZERO, null);
+        }
+
+        public boolean accrues() {
+            return skipReason == null;
+        }
     }
 }
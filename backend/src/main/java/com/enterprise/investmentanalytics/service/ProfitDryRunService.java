@@ -0,0 +1,145 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.ProfitDryRunAccrualDTO;
+import com.enterprise.investmentanalytics.dto.response.ProfitDryRunDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports what the next profit run would credit without moving any money:
+ * totals, counts per profit mode, the largest accruals and why clients were
+ * skipped, or the full per-client list as CSV.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfitDryRunService {
+
+    private static final int MAX_TOP = 100;
+
+    private final ProfitCalculationService profitCalculationService;
+
+    // Month and year evaluate the run like a manual calculation for that month; none means now
+    public LocalDateTime resolveRunTime(Integer month, Integer year) {
+        if (month == null && year == null) {
+            return LocalDateTime.now();
+        }
+        if (month == null || year == null) {
+            throw new IllegalArgumentException("Provide both month and year, or neither");
+        }
+        return LocalDateTime.of(year, month, 28, 0, 0);
+    }
+
+    public List<ProfitCalculationService.Accrual> evaluate(LocalDateTime runTime) {
+        return profitCalculationService.dryRun(runTime);
+    }
+
+    public ProfitDryRunDTO summarize(LocalDateTime runTime, List<ProfitCalculationService.Accrual> accruals,
+            int top, long durationMs) {
+        BigDecimal totalProfit = BigDecimal.ZERO;
+        BigDecimal totalCapital = BigDecimal.ZERO;
+        Map<String, Long> countByMode = new TreeMap<>();
+        Map<String, BigDecimal> profitByMode = new TreeMap<>();
+        Map<String, Long> skipReasons = new TreeMap<>();
+        int accruing = 0;
+
+        for (ProfitCalculationService.Accrual accrual : accruals) {
+            if (!accrual.accrues()) {
+                skipReasons.merge(accrual.skipReason(), 1L, Long::sum);
+                continue;
+            }
+            accruing++;
+            String mode = accrual.portfolio().getProfitMode().name();
+            countByMode.merge(mode, 1L, Long::sum);
+            profitByMode.merge(mode, accrual.profitAmount(), BigDecimal::add);
+            totalProfit = totalProfit.add(accrual.profitAmount());
+            totalCapital = totalCapital.add(accrual.eligibleCapital());
+        }
+
+        List<ProfitDryRunAccrualDTO> largest = accruals.stream()
+                .filter(ProfitCalculationService.Accrual::accrues)
+                .sorted(Comparator.comparing(ProfitCalculationService.Accrual::profitAmount).reversed())
+                .limit(Math.max(0, Math.min(top, MAX_TOP)))
+                .map(this::toAccrualDTO)
+                .toList();
+
+        log.info("Profit dry run for {}: {} of {} clients accruing, total {} ({} ms)", YearMonth.from(runTime),
+                accruing, accruals.size(), totalProfit, durationMs);
+
+        return ProfitDryRunDTO.builder()
+                .cycleMonth(YearMonth.from(runTime).toString())
+                .runTime(runTime)
+                .clients(accruals.size())
+                .accruing(accruing)
+                .skipped(accruals.size() - accruing)
+                .totalProfit(totalProfit)
+                .totalEligibleCapital(totalCapital)
+                .countByMode(countByMode)
+                .profitByMode(profitByMode)
+                .skipReasons(skipReasons)
+                .largestAccruals(largest)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    // One row per evaluated client, skipped ones included with their reason
+    public void writeCsv(List<ProfitCalculationService.Accrual> accruals, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("user_id,name,profit_mode,eligible_capital,rate_percent,profit_amount,outcome");
+        writer.newLine();
+        for (ProfitCalculationService.Accrual accrual : accruals) {
+            ProfitDryRunAccrualDTO row = toAccrualDTO(accrual);
+            writer.write(String.join(",",
+                    csv(row.getUserId()),
+                    csv(row.getName()),
+                    csv(row.getProfitMode()),
+                    plain(row.getEligibleCapital()),
+                    plain(row.getRatePercent()),
+                    plain(row.getProfitAmount()),
+                    accrual.accrues() ? "ACCRUE" : accrual.skipReason()));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    private ProfitDryRunAccrualDTO toAccrualDTO(ProfitCalculationService.Accrual accrual) {
+        return ProfitDryRunAccrualDTO.builder()
+                .userId(accrual.user().getUserId())
+                .name(accrual.user().getName())
+                .profitMode(accrual.portfolio() != null && accrual.portfolio().getProfitMode() != null
+                        ? accrual.portfolio().getProfitMode().name()
+                        : null)
+                .eligibleCapital(accrual.eligibleCapital())
+                .ratePercent(accrual.rate() != null ? accrual.rate().multiply(BigDecimal.valueOf(100)) : null)
+                .profitAmount(accrual.profitAmount())
+                .build();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
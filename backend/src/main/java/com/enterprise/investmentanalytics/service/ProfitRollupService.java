@@ -0,0 +1,160 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO;
+import com.enterprise.investmentanalytics.model.entity.ProfitPeriodRollup;
+import com.enterprise.investmentanalytics.model.entity.User;
+import com.enterprise.investmentanalytics.repository.ProfitPeriodRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Monthly profit rollups. Every accrual tick writes one monthly_profit_history
+ * row and one PROFIT transaction, and folds itself into the month's
+ * profit_period_rollups row (see ProfitPeriodRollupRepository.recordAccrual).
+ * Once a month is closed the compaction job moves the raw history rows to the
+ * archive and folds the PROFIT ledger rows into ledger_period_summaries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfitRollupService {
+
+    private final ProfitPeriodRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final MaintenanceJobService maintenanceJobService;
+    private final ScheduledJobService scheduledJobService;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private ProfitRollupService self;
+
+    /**
+     * One rollup per profit cycle month, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<ProfitPeriodRollup> getRollups(User user) {
+        return rollupRepository.findByUserIdOrderByYearDescMonthDesc(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProfitPeriodRollup> getRollups(User user, int year) {
+        return rollupRepository.findByUserIdAndYearOrderByMonthAsc(user.getId(), year);
+    }
+
+    public MaintenanceJobDTO startCompaction(String requestedBy) {
+        return maintenanceJobService.submit("PROFIT_COMPACTION", "monthly_profit_history, transactions",
+                requestedBy, this::compactClosedMonths);
+    }
+
+    @Scheduled(cron = "${app.profit-compaction.cron:0 0 3 * * *}")
+    public void scheduledCompaction() {
+        // Only submits the work; its progress is tracked as a maintenance job
+        scheduledJobService.run("profit-compaction", () -> {
+            startCompaction("scheduler");
+            return 0L;
+        });
+    }
+
+    private void compactClosedMonths(MaintenanceJobService.MaintenanceJob job) {
+        YearMonth current = YearMonth.now();
+        // Rows before LEDGER_HOT_FROM are already summarized by partition archival
+        YearMonth hotFrom = YearMonth.from(partitionMaintenanceService.hotFrom());
+        YearMonth start = earliestRawMonth();
+        if (start == null || start.isBefore(hotFrom)) {
+            start = hotFrom;
+        }
+
+        for (YearMonth month = start; month.isBefore(current); month = month.plusMonths(1)) {
+            List<String[]> users = usersWithRawRows(month);
+            if (users.isEmpty()) {
+                continue;
+            }
+            job.step("compact " + month);
+            for (String[] user : users) {
+                long[] moved = self.compactUserMonth(UUID.fromString(user[0]), user[1], month);
+                job.add("monthly_profit_history", moved[0]);
+                job.add("transactions", moved[1]);
+                job.add("clients", 1);
+            }
+            log.info("Compacted profit rows of {} for {} clients", month, users.size());
+        }
+    }
+
+    @Transactional
+    public long[] compactUserMonth(UUID userId, String businessUserId, YearMonth month) {
+        long historyRows = 0;
+        if (businessUserId != null) {
+            // The rollup already holds every accrual of the month; only the raw rows move
+            rollupRepository.findByUserIdAndYearAndMonth(userId, month.getYear(), month.getMonthValue())
+                    .ifPresent(rollup -> rollup.setCompactedAt(LocalDateTime.now()));
+            historyRows = moveToArchive("monthly_profit_history", "user_id = ? AND year = ? AND month = ?",
+                    businessUserId, month.getYear(), month.getMonthValue());
+        }
+
+        // PROFIT ledger rows of the calendar month collapse into the ledger summaries
+        Object[] ledgerRange = { userId.toString(), Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()) };
+        String ledgerWhere = "user_id = UUID_TO_BIN(?) AND type = 'PROFIT' AND created_at >= ? AND created_at < ?";
+        jdbcTemplate.update("INSERT INTO ledger_period_summaries "
+                + "(id, user_id, year, month, type, entry_count, total_amount, archived_at) "
+                + "SELECT UUID_TO_BIN(UUID(), 1), user_id, " + month.getYear() + ", " + month.getMonthValue()
+                + ", 'PROFIT', COUNT(*), SUM(amount), NOW(6) FROM transactions WHERE " + ledgerWhere
+                + " GROUP BY user_id ON DUPLICATE KEY UPDATE entry_count = entry_count + VALUES(entry_count), "
+                + "total_amount = total_amount + VALUES(total_amount), archived_at = VALUES(archived_at)",
+                ledgerRange);
+        long ledgerRows = moveToArchive("transactions", ledgerWhere, ledgerRange);
+
+        return new long[] { historyRows, ledgerRows };
+    }
+
+    // Copies the rows to <table>_archive and deletes them; both statements must agree
+    private long moveToArchive(String table, String where, Object... args) {
+        int copied = jdbcTemplate.update("INSERT INTO " + table + "_archive SELECT * FROM " + table
+                + " WHERE " + where, args);
+        int deleted = jdbcTemplate.update("DELETE FROM " + table + " WHERE " + where, args);
+        if (copied != deleted) {
+            throw new IllegalStateException("Compaction of " + table + " copied " + copied + " rows but deleted "
+                    + deleted);
+        }
+        return deleted;
+    }
+
+    private YearMonth earliestRawMonth() {
+        List<YearMonth> months = jdbcTemplate.query(
+                "SELECT year, month FROM monthly_profit_history ORDER BY year, month LIMIT 1",
+                (rs, i) -> YearMonth.of(rs.getInt(1), rs.getInt(2)));
+        Timestamp firstLedger = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM transactions",
+                Timestamp.class);
+        YearMonth earliest = months.isEmpty() ? null : months.get(0);
+        if (firstLedger != null) {
+            YearMonth ledgerMonth = YearMonth.from(firstLedger.toLocalDateTime());
+            if (earliest == null || ledgerMonth.isBefore(earliest)) {
+                earliest = ledgerMonth;
+            }
+        }
+        return earliest;
+    }
+
+    // Clients with accrual rows in the month: [uuid, business user id]
+    private List<String[]> usersWithRawRows(YearMonth month) {
+        return jdbcTemplate.query("SELECT BIN_TO_UUID(u.id), u.user_id FROM users u "
+                + "WHERE u.id IN (SELECT t.user_id FROM transactions t WHERE t.type = 'PROFIT' "
+                + "AND t.created_at >= ? AND t.created_at < ?) "
+                + "OR u.user_id IN (SELECT h.user_id FROM monthly_profit_history h WHERE h.year = ? AND h.month = ?)",
+                (rs, i) -> new String[] { rs.getString(1), rs.getString(2) },
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()),
+                month.getYear(), month.getMonthValue());
+    }
+}
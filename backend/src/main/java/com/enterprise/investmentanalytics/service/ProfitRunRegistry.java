@@ -0,0 +1,179 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.ProfitRunDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory progress of profit runs. The batch reports every client through
+ * its run handle; admins read the live counters, throughput and ETA, and the
+ * last finished runs. Progress is logged as one aggregated line per interval
+ * instead of one line per client.
+ */
+@Service
+@Slf4j
+public class ProfitRunRegistry {
+
+    private final Map<String, ProfitRun> running = new ConcurrentHashMap<>();
+    private final Deque<ProfitRunDTO> finished = new ArrayDeque<>();
+
+    @Value("${app.profit-runs.retained:20}")
+    private int retainedRuns;
+
+    @Value("${app.profit-runs.log-interval-seconds:30}")
+    private long logIntervalSeconds;
+
+    public ProfitRun start(String trigger, YearMonth cycleMonth, int total) {
+        ProfitRun run = new ProfitRun(UUID.randomUUID().toString(), trigger, cycleMonth, total,
+                logIntervalSeconds * 1000);
+        running.put(run.id, run);
+        log.info("Profit run {} ({}) started for {}: {} active clients", run.id, trigger, cycleMonth, total);
+        return run;
+    }
+
+    public void finish(ProfitRun run, Throwable error) {
+        run.status = error == null ? "COMPLETED" : "FAILED";
+        run.error = error != null ? error.getMessage() : null;
+        run.finishedAt = LocalDateTime.now();
+        running.remove(run.id);
+
+        ProfitRunDTO summary = run.toDTO();
+        synchronized (finished) {
+            finished.addFirst(summary);
+            while (finished.size() > Math.max(1, retainedRuns)) {
+                finished.removeLast();
+            }
+        }
+        log.info("Profit run {} {} in {} ms: {} processed, {} skipped, {} failed of {} ({} clients/s)",
+                run.id, summary.getStatus().toLowerCase(), summary.getDurationMs(), summary.getProcessed(),
+                summary.getSkipped(), summary.getFailed(), summary.getTotal(),
+                String.format("%.1f", summary.getThroughputPerSecond()));
+    }
+
+    // Latest started run that is still going
+    public Optional<ProfitRunDTO> getCurrent() {
+        return running.values().stream()
+                .max(Comparator.comparing((ProfitRun run) -> run.startedAt))
+                .map(ProfitRun::toDTO);
+    }
+
+    public List<ProfitRunDTO> getRecent(int limit) {
+        List<ProfitRunDTO> result = new ArrayList<>();
+        running.values().forEach(run -> result.add(run.toDTO()));
+        result.sort(Comparator.comparing(ProfitRunDTO::getStartedAt).reversed());
+        synchronized (finished) {
+            result.addAll(finished);
+        }
+        return result.subList(0, Math.min(Math.max(limit, 0), result.size()));
+    }
+
+    /**
+     * Progress handle of one run. Counters are updated by the batch thread and
+     * read by request threads.
+     */
+    public static class ProfitRun {
+        private final String id;
+        private final String trigger;
+        private final YearMonth cycleMonth;
+        private final int total;
+        private final long logIntervalMillis;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicLong lastLoggedAt = new AtomicLong(System.currentTimeMillis());
+        private volatile String status = "RUNNING";
+        private volatile String currentPartition;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        ProfitRun(String id, String trigger, YearMonth cycleMonth, int total, long logIntervalMillis) {
+            this.id = id;
+            this.trigger = trigger;
+            this.cycleMonth = cycleMonth;
+            this.total = total;
+            this.logIntervalMillis = logIntervalMillis;
+        }
+
+        public void partition(String partition) {
+            this.currentPartition = partition;
+        }
+
+        public void processed() {
+            processed.incrementAndGet();
+            logProgress();
+        }
+
+        public void skipped() {
+            skipped.incrementAndGet();
+            logProgress();
+        }
+
+        public void failed() {
+            failed.incrementAndGet();
+            logProgress();
+        }
+
+        private void logProgress() {
+            long now = System.currentTimeMillis();
+            long last = lastLoggedAt.get();
+            if (now - last < logIntervalMillis || !lastLoggedAt.compareAndSet(last, now)) {
+                return;
+            }
+            ProfitRunDTO progress = toDTO();
+            log.info("Profit run {}: {}/{} handled ({} processed, {} skipped, {} failed), {} clients/s, ETA {} s",
+                    id, handled(), total, progress.getProcessed(), progress.getSkipped(), progress.getFailed(),
+                    String.format("%.1f", progress.getThroughputPerSecond()), progress.getEtaSeconds());
+        }
+
+        private int handled() {
+            return processed.get() + skipped.get() + failed.get();
+        }
+
+        ProfitRunDTO toDTO() {
+            int handled = handled();
+            long elapsedMillis = finishedAt != null
+                    ? Duration.between(startedAt, finishedAt).toMillis()
+                    : Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+            double throughput = elapsedMillis > 0 ? handled * 1000d / elapsedMillis : 0d;
+            Long eta = finishedAt == null && throughput > 0
+                    ? (long) Math.ceil(Math.max(total - handled, 0) / throughput)
+                    : null;
+
+            return ProfitRunDTO.builder()
+                    .id(id)
+                    .trigger(trigger)
+                    .cycleMonth(cycleMonth.toString())
+                    .status(status)
+                    .total(total)
+                    .processed(processed.get())
+                    .skipped(skipped.get())
+                    .failed(failed.get())
+                    .throughputPerSecond(throughput)
+                    .etaSeconds(eta)
+                    .currentPartition(currentPartition)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .durationMs(elapsedMillis)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.RequestLatencyDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency and response size histograms per route template and role, as
+ * recorded by RequestTimingFilter. Snapshots cover the current interval, which
+ * starts at boot and again at every reset.
+ */
+@Service
+public class RequestLatencyService {
+
+    private final Map<Key, Interval> intervals = new ConcurrentHashMap<>();
+
+    @Value("${app.request-timing.slo-ms:1000}")
+    private long sloMs;
+
+    public void record(String endpoint, String role, long durationMicros, long responseBytes) {
+        Interval interval = intervals.computeIfAbsent(new Key(endpoint, role), key -> new Interval());
+        interval.latency.record(durationMicros);
+        interval.bytes.record(responseBytes);
+    }
+
+    // Slowest p99 first; with reset, the returned snapshot closes the interval
+    public List<RequestLatencyDTO> getSnapshot(boolean reset) {
+        List<RequestLatencyDTO> snapshot = intervals.entrySet().stream()
+                .map(entry -> toDTO(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(RequestLatencyDTO::getP99Ms).reversed())
+                .toList();
+        if (reset) {
+            reset();
+        }
+        return snapshot;
+    }
+
+    public void reset() {
+        intervals.clear();
+    }
+
+    private RequestLatencyDTO toDTO(Key key, Interval interval) {
+        LogLinearHistogram latency = interval.latency;
+        LogLinearHistogram bytes = interval.bytes;
+        double p99Ms = millis(latency.percentile(99.0));
+        return RequestLatencyDTO.builder()
+                .endpoint(key.endpoint())
+                .role(key.role())
+                .intervalStart(interval.started)
+                .requests(latency.count())
+                .meanMs(latency.mean() / 1000.0)
+                .p50Ms(millis(latency.percentile(50.0)))
+                .p90Ms(millis(latency.percentile(90.0)))
+                .p99Ms(p99Ms)
+                .p999Ms(millis(latency.percentile(99.9)))
+                .maxMs(millis(latency.max()))
+                .p50Bytes(bytes.percentile(50.0))
+                .p99Bytes(bytes.percentile(99.0))
+                .maxBytes(bytes.max())
+                .overSlo(p99Ms > sloMs)
+                .build();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private record Key(String endpoint, String role) {
+    }
+
+    private static class Interval {
+        private final LocalDateTime started = LocalDateTime.now();
+        private final LogLinearHistogram latency = new LogLinearHistogram(); // Microseconds
+        private final LogLinearHistogram bytes = new LogLinearHistogram();
+    }
+}
@@ -5,7 +5,9 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.enterprise.investmentanalytics.jfr.S3CallEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,7 +22,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final AmazonS3 amazonS3;
+    // Resolved on first use, see S3Config
+    private final ObjectProvider<AmazonS3> amazonS3;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -35,7 +38,17 @@ public class S3Service {
         metadata.setContentLength(file.getSize());
         metadata.setContentType(file.getContentType());
 
-        amazonS3.putObject(new PutObjectRequest(bucketName, fileName, file.getInputStream(), metadata));
+        S3CallEvent event = new S3CallEvent();
+        event.operation = "putObject";
+        event.key = fileName;
+        event.bytes = file.getSize();
+        event.begin();
+        try {
+            amazonS3.getObject().putObject(new PutObjectRequest(bucketName, fileName, file.getInputStream(), metadata));
+            event.succeeded = true;
+        } finally {
+            event.commit();
+        }
 
         return fileName;
     }
@@ -56,7 +69,16 @@ public class S3Service {
                 .withMethod(HttpMethod.GET)
                 .withExpiration(expiration);
 
-        URL url = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-        return url.toString();
+        S3CallEvent event = new S3CallEvent();
+        event.operation = "generatePresignedUrl";
+        event.key = key;
+        event.begin();
+        try {
+            URL url = amazonS3.getObject().generatePresignedUrl(generatePresignedUrlRequest);
+            event.succeeded = true;
+            return url.toString();
+        } finally {
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,139 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.ScheduledJobDTO;
+import com.enterprise.investmentanalytics.dto.response.ScheduledJobRunDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wraps every scheduled job: a job never runs twice at the same time, even
+ * when a run outlasts its next trigger on the multi-threaded scheduler, and
+ * each run is recorded (start, end, duration, outcome, items) in a bounded
+ * in-memory history per job.
+ */
+@Service
+@Slf4j
+public class ScheduledJobService {
+
+    /**
+     * Body of a scheduled job. Returns the number of items it processed, null
+     * when nothing was due (such triggers are not kept in the history).
+     */
+    @FunctionalInterface
+    public interface JobBody {
+        Long run() throws Exception;
+    }
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.scheduling.history-size:20}")
+    private int historySize;
+
+    public void run(String name, JobBody body) {
+        JobState state = jobs.computeIfAbsent(name, JobState::new);
+        LocalDateTime startedAt = LocalDateTime.now();
+        state.lastTriggeredAt = startedAt;
+
+        if (!state.running.compareAndSet(false, true)) {
+            log.warn("Scheduled job {} is still running, skipping this trigger", name);
+            state.record(ScheduledJobRunDTO.builder()
+                    .startedAt(startedAt)
+                    .finishedAt(startedAt)
+                    .durationMs(0L)
+                    .outcome("SKIPPED_OVERLAP")
+                    .build(), historySize);
+            return;
+        }
+
+        ScheduledJobRunDTO run = ScheduledJobRunDTO.builder().startedAt(startedAt).outcome("RUNNING").build();
+        state.runningSince = startedAt;
+        try {
+            Long items = body.run();
+            if (items == null) {
+                return;
+            }
+            run.setItemsProcessed(items);
+            run.setOutcome("SUCCEEDED");
+        } catch (Exception e) {
+            run.setOutcome("FAILED");
+            run.setError(e.getMessage());
+            log.error("Scheduled job {} failed: {}", name, e.getMessage(), e);
+        } finally {
+            state.runningSince = null;
+            state.running.set(false);
+            if (!"RUNNING".equals(run.getOutcome())) {
+                LocalDateTime finishedAt = LocalDateTime.now();
+                run.setFinishedAt(finishedAt);
+                run.setDurationMs(Duration.between(startedAt, finishedAt).toMillis());
+                state.record(run, historySize);
+            }
+        }
+    }
+
+    public List<ScheduledJobDTO> getJobs() {
+        List<ScheduledJobDTO> result = new ArrayList<>();
+        for (JobState state : jobs.values()) {
+            result.add(state.toDTO());
+        }
+        result.sort(Comparator.comparing(ScheduledJobDTO::getName));
+        return result;
+    }
+
+    public ScheduledJobDTO getJob(String name) {
+        JobState state = jobs.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("Scheduled job has not run yet: " + name);
+        }
+        return state.toDTO();
+    }
+
+    private static class JobState {
+        private final String name;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final Deque<ScheduledJobRunDTO> history = new ArrayDeque<>();
+        private volatile LocalDateTime runningSince;
+        private volatile LocalDateTime lastTriggeredAt;
+
+        JobState(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(ScheduledJobRunDTO run, int limit) {
+            history.addFirst(run);
+            while (history.size() > Math.max(1, limit)) {
+                history.removeLast();
+            }
+        }
+
+        synchronized ScheduledJobDTO toDTO() {
+            List<ScheduledJobRunDTO> runs = new ArrayList<>();
+            LocalDateTime since = runningSince;
+            if (since != null) {
+                runs.add(ScheduledJobRunDTO.builder()
+                        .startedAt(since)
+                        .durationMs(Duration.between(since, LocalDateTime.now()).toMillis())
+                        .outcome("RUNNING")
+                        .build());
+            }
+            runs.addAll(history);
+            return ScheduledJobDTO.builder()
+                    .name(name)
+                    .running(running.get())
+                    .lastTriggeredAt(lastTriggeredAt)
+                    .runs(runs)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.enterprise.investmentanalytics.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller of a key runs the
+ * loader, callers arriving while it runs wait for and share its result (or
+ * its exception). With app.single-flight.ttl-ms above zero a result is also
+ * served to callers within that window after it completes; failures are
+ * never kept. Keys name the method and its arguments, so shared results must
+ * not be modified by callers.
+ */
+@Service
+public class SingleFlightService {
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    @Value("${app.single-flight.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.single-flight.ttl-ms:0}")
+    private long ttlMs;
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Flight candidate = new Flight();
+        Flight flight = flights.compute(key,
+                (k, existing) -> existing != null && !existing.isExpired() ? existing : candidate);
+        if (flight != candidate) {
+            shared.incrementAndGet();
+            return (T) flight.join();
+        }
+
+        executed.incrementAndGet();
+        try {
+            T value = loader.get();
+            flight.complete(value, ttlMs);
+            if (ttlMs <= 0) {
+                flights.remove(key, flight);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (flights.size() > 1) {
+                flights.values().removeIf(Flight::isExpired);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ttlMs", ttlMs);
+        stats.put("executed", executed.get());
+        stats.put("shared", shared.get()); // Calls served by another caller's load
+        stats.put("keys", flights.size());
+        return stats;
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE; // Nanos; in flight until completed
+
+        void complete(Object value, long ttlMs) {
+            expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMs));
+            result.complete(value);
+        }
+
+        boolean isExpired() {
+            long deadline = expiresAt;
+            return deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0;
+        }
+
+        Object join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
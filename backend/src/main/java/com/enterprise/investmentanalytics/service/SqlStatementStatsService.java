@@ -0,0 +1,84 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.config.SqlStatementCounter;
+import com.enterprise.investmentanalytics.dto.response.SqlStatementStatsDTO;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL statements per endpoint since startup, as recorded by
+ * SqlStatementBudgetFilter.
+ */
+@Service
+public class SqlStatementStatsService {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, int budget, SqlStatementCounter.Snapshot snapshot, boolean repeated) {
+        endpoints.computeIfAbsent(endpoint, EndpointStats::new).record(budget, snapshot, repeated);
+    }
+
+    // Worst offenders first
+    public List<SqlStatementStatsDTO> getStats() {
+        return endpoints.values().stream()
+                .map(EndpointStats::toDTO)
+                .sorted(Comparator.comparing(SqlStatementStatsDTO::getOverBudget)
+                        .thenComparing(SqlStatementStatsDTO::getMaxStatements)
+                        .reversed())
+                .toList();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static class EndpointStats {
+        private final String endpoint;
+        private int budget;
+        private long requests;
+        private long statements;
+        private int maxStatements;
+        private long overBudget;
+        private long possibleNPlusOne;
+        private String lastRepeatedSql;
+        private LocalDateTime lastOverBudgetAt;
+
+        EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized void record(int budget, SqlStatementCounter.Snapshot snapshot, boolean repeated) {
+            this.budget = budget;
+            requests++;
+            statements += snapshot.total();
+            maxStatements = Math.max(maxStatements, snapshot.total());
+            if (snapshot.total() > budget) {
+                overBudget++;
+                lastOverBudgetAt = LocalDateTime.now();
+            }
+            if (repeated) {
+                possibleNPlusOne++;
+                lastRepeatedSql = snapshot.mostRepeatedSql();
+            }
+        }
+
+        synchronized SqlStatementStatsDTO toDTO() {
+            return SqlStatementStatsDTO.builder()
+                    .endpoint(endpoint)
+                    .budget(budget)
+                    .requests(requests)
+                    .avgStatements(requests > 0 ? (double) statements / requests : 0.0)
+                    .maxStatements(maxStatements)
+                    .overBudget(overBudget)
+                    .possibleNPlusOne(possibleNPlusOne)
+                    .lastRepeatedSql(lastRepeatedSql)
+                    .lastOverBudgetAt(lastOverBudgetAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.InvestmentAnalyticsApplication;
+import com.enterprise.investmentanalytics.dto.response.StartupStepDTO;
+import com.enterprise.investmentanalytics.dto.response.StartupTimelineDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the startup timeline recorded by the BufferingApplicationStartup set
+ * in InvestmentAnalyticsApplication: time to ready against
+ * app.startup.budget-ms, the startup phases and the slowest beans. The buffer
+ * is drained once the application is ready so it does not keep growing.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StartupTimelineService {
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final int MAX_TOP = 200;
+
+    private final ApplicationStartup applicationStartup;
+
+    @Value("${app.startup.budget-ms:60000}")
+    private long budgetMs;
+
+    @Value("${app.startup.log-slowest:5}")
+    private int logSlowest;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        long readyMs = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+        snapshot = analyze(buffering.drainBufferedTimeline(), readyMs);
+
+        String slowest = snapshot.beans.stream()
+                .limit(Math.max(0, logSlowest))
+                .map(bean -> bean.getBeanName() + " " + bean.getSelfMs() + " ms")
+                .collect(Collectors.joining(", "));
+        if (readyMs > budgetMs) {
+            log.warn("Startup took {} ms, over the {} ms budget; slowest beans: {}", readyMs, budgetMs, slowest);
+        } else {
+            log.info("Startup took {} ms ({} beans); slowest beans: {}", readyMs, snapshot.beans.size(), slowest);
+        }
+    }
+
+    public Optional<StartupTimelineDTO> getTimeline(int top) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        int limit = Math.min(current.beans.size(), Math.max(0, Math.min(top, MAX_TOP)));
+        return Optional.of(StartupTimelineDTO.builder()
+                .startedAt(current.startedAt)
+                .readyMs(current.readyMs)
+                .budgetMs(budgetMs)
+                .withinBudget(current.readyMs >= 0 && current.readyMs <= budgetMs)
+                .beansCreated(current.beans.size())
+                .stepsRecorded(current.stepsRecorded)
+                .truncated(current.stepsRecorded >= InvestmentAnalyticsApplication.STARTUP_STEP_CAPACITY)
+                .phases(current.phases)
+                .slowestBeans(current.beans.subList(0, limit))
+                .build());
+    }
+
+    private Snapshot analyze(StartupTimeline timeline, long readyMs) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        // A step's self time excludes the steps nested in it, e.g. the dependencies a bean pulled in
+        Map<Long, Long> nestedMs = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nestedMs.merge(parentId, event.getDuration().toMillis(), Long::sum);
+            }
+        }
+
+        List<StartupStepDTO> phases = new ArrayList<>();
+        List<StartupStepDTO> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            long durationMs = event.getDuration().toMillis();
+            StartupStepDTO dto = StartupStepDTO.builder()
+                    .name(step.getName())
+                    .beanName(tag(step, "beanName"))
+                    .startOffsetMs(Duration.between(timeline.getStartTime(), event.getStartTime()).toMillis())
+                    .durationMs(durationMs)
+                    .selfMs(Math.max(0, durationMs - nestedMs.getOrDefault(step.getId(), 0L)))
+                    .build();
+            if (BEAN_STEP.equals(step.getName())) {
+                beans.add(dto);
+            } else if (step.getName().startsWith("spring.boot.") || step.getName().startsWith("spring.context.")) {
+                phases.add(dto);
+            }
+        }
+        phases.sort(Comparator.comparing(StartupStepDTO::getStartOffsetMs));
+        beans.sort(Comparator.comparing(StartupStepDTO::getSelfMs).reversed());
+
+        LocalDateTime startedAt = LocalDateTime.ofInstant(timeline.getStartTime(), ZoneId.systemDefault());
+        return new Snapshot(startedAt, readyMs, events.size(), List.copyOf(phases), List.copyOf(beans));
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private record Snapshot(LocalDateTime startedAt, long readyMs, int stepsRecorded, List<StartupStepDTO> phases,
+            List<StartupStepDTO> beans) {
+    }
+}
@@ -2,11 +2,13 @@ package com.enterprise.investmentanalytics.service;
 
 import com.enterprise.investmentanalytics.dto.request.TransactionRequest;
 import com.enterprise.investmentanalytics.dto.response.TransactionResponse;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.Transaction;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.repository.TransactionRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,22 @@ public class TransactionService {
     private final com.enterprise.investmentanalytics.repository.PortfolioRepository portfolioRepository;
     private final MapperService mapperService;
     private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final java.time.LocalDateTime RANGE_START = java.time.LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final java.time.LocalDateTime RANGE_END = java.time.LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String LAST_UUID = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    // created_at DESC, id DESC with ids compared as unsigned bytes, the way MySQL orders BINARY(16)
+    private static final java.util.Comparator<Transaction> KEYSET_ORDER = java.util.Comparator
+            .comparing(Transaction::getCreatedAt, java.util.Comparator.reverseOrder())
+            .thenComparing((a, b) -> {
+                int high = Long.compareUnsigned(b.getId().getMostSignificantBits(), a.getId().getMostSignificantBits());
+                return high != 0 ? high
+                        : Long.compareUnsigned(b.getId().getLeastSignificantBits(), a.getId().getLeastSignificantBits());
+            });
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
@@ -82,6 +100,7 @@ public class TransactionService {
 
         portfolio.setTotalValue(portfolio.getAvailableProfit().add(portfolio.getTotalInvested()));
         portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("PAYOUT_RECORDED", user));
 
         // Initial save to generate ID
         Transaction transaction = Transaction.builder()
@@ -114,10 +133,91 @@ public class TransactionService {
         return mapperService.toTransactionResponse(savedTransaction);
     }
 
-    public List<TransactionResponse> getTransactionsByUserId(UUID userId) {
-        return transactionRepository.findByUserId(userId).stream()
+    // Archived months live in transactions_archive and are only read when explicitly requested
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getTransactionsByUserId(UUID userId, boolean includeArchived) {
+        List<TransactionResponse> transactions = transactionRepository.findRowsByUserId(userId).stream()
                 .map(mapperService::toTransactionResponse)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            transactionRepository.findArchivedByUserId(userId.toString()).stream()
+                    .map(mapperService::toTransactionResponse)
+                    .forEach(transactions::add);
+        }
+        return transactions;
+    }
+
+    /**
+     * One keyset page of a user's ledger, newest first. The cursor is the
+     * (created_at, id) of the last row served, so rows inserted meanwhile never
+     * shift later pages. Type and date range filters are optional; the date
+     * range is inclusive.
+     */
+    @Transactional(readOnly = true)
+    public com.enterprise.investmentanalytics.dto.response.TransactionPageDTO getTransactionPage(UUID userId,
+            String type, java.time.LocalDate fromDate, java.time.LocalDate toDate, String cursor, Integer limit,
+            boolean includeArchived) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<String> types = type == null || type.isBlank()
+                ? java.util.Arrays.stream(com.enterprise.investmentanalytics.model.enums.TransactionType.values())
+                        .map(Enum::name).collect(Collectors.toList())
+                : List.of(parseType(type).name());
+        java.time.LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : RANGE_START;
+        java.time.LocalDateTime to = toDate != null ? toDate.plusDays(1).atStartOfDay() : RANGE_END;
+
+        java.time.LocalDateTime cursorAt = RANGE_END;
+        String cursorId = LAST_UUID;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(java.util.Base64.getUrlDecoder().decode(cursor),
+                        java.nio.charset.StandardCharsets.UTF_8).split("\\|", 2);
+                cursorAt = java.time.LocalDateTime.parse(parts[0]);
+                cursorId = UUID.fromString(parts[1]).toString();
+            } catch (RuntimeException e) {
+                throw new com.enterprise.investmentanalytics.exception.BadRequestException("Invalid cursor");
+            }
+        }
+
+        // One extra row tells whether another page exists
+        String user = userId.toString();
+        List<Transaction> rows = new java.util.ArrayList<>(
+                transactionRepository.findPage(user, types, from, to, cursorAt, cursorId, pageSize + 1));
+        if (includeArchived) {
+            // Archived rows interleave with live ones; merge both pages in key order
+            java.util.Set<UUID> seen = rows.stream().map(Transaction::getId).collect(Collectors.toSet());
+            for (Transaction archived : transactionRepository.findArchivedPage(user, types, from, to, cursorAt,
+                    cursorId, pageSize + 1)) {
+                if (seen.add(archived.getId())) {
+                    rows.add(archived);
+                }
+            }
+            rows.sort(KEYSET_ORDER);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getCreatedAt() + "|" + last.getId()).getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        }
+
+        return com.enterprise.investmentanalytics.dto.response.TransactionPageDTO.builder()
+                .items(page.stream().map(mapperService::toTransactionResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Type filter of a ledger page; an unknown type is the caller's mistake, not a server error
+    private static com.enterprise.investmentanalytics.model.enums.TransactionType parseType(String type) {
+        try {
+            return com.enterprise.investmentanalytics.model.enums.TransactionType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new com.enterprise.investmentanalytics.exception.BadRequestException(
+                    "Unknown transaction type: " + type);
+        }
     }
 
     @Transactional
@@ -160,6 +260,7 @@ public class TransactionService {
         }
 
         portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("MANUAL_TRANSACTION", user));
 
         Transaction transaction = Transaction.builder()
                 .user(user)
@@ -0,0 +1,129 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.MaintenanceJobDTO;
+import com.enterprise.investmentanalytics.model.id.UuidV7Generator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Online migration of existing random (v4) primary keys to UUIDv7. Rows are
+ * walked in key order with a keyset cursor; every chunk of v4 ids is rewritten
+ * in its own short transaction with a new v7 id derived from the row's creation
+ * time, so the table stays writable while the job runs.
+ *
+ * Only leaf tables are rekeyed: nothing references their ids through a foreign
+ * key. users and portfolios keep their ids; new rows still get v7 keys.
+ * Audit entries that quote a deposit request id in their text keep the old one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UuidRekeyService {
+
+    private static final List<RekeyTable> TABLES = List.of(
+            new RekeyTable("transactions", "created_at"),
+            new RekeyTable("monthly_profit_history", "calculated_at"),
+            new RekeyTable("audit_logs", "created_at"),
+            new RekeyTable("deposit_requests", "created_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MaintenanceJobService maintenanceJobService;
+
+    @org.springframework.beans.factory.annotation.Autowired
+    @org.springframework.context.annotation.Lazy
+    private UuidRekeyService self;
+
+    @Value("${app.maintenance.rekey-chunk-size:1000}")
+    private int chunkSize;
+
+    public MaintenanceJobDTO startRekey(String requestedBy) {
+        String target = String.join(", ", TABLES.stream().map(table -> table.name).toList());
+        return maintenanceJobService.submit("UUID_V7_REKEY", target, requestedBy, job -> {
+            for (RekeyTable table : TABLES) {
+                rekeyTable(table, job);
+            }
+        });
+    }
+
+    private void rekeyTable(RekeyTable table, MaintenanceJobService.MaintenanceJob job) {
+        job.step(table.name);
+        String select = "SELECT id, " + table.timestampColumn + " FROM " + table.name
+                + " WHERE id > ? ORDER BY id LIMIT ?";
+
+        byte[] cursor = new byte[16];
+        long scanned = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(select,
+                    (rs, i) -> new Object[] { rs.getBytes(1), rs.getTimestamp(2) }, cursor, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            cursor = (byte[]) rows.get(rows.size() - 1)[0];
+            scanned += rows.size();
+
+            // Rows already rekeyed (or inserted with v7) are skipped; rekeyed rows may
+            // reappear ahead of the cursor and are skipped the same way.
+            List<UUID[]> changes = new ArrayList<>();
+            for (Object[] row : rows) {
+                UUID oldId = toUuid((byte[]) row[0]);
+                if (!UuidV7Generator.isV7(oldId)) {
+                    Timestamp created = (Timestamp) row[1];
+                    long millis = created != null ? created.getTime() : System.currentTimeMillis();
+                    changes.add(new UUID[] { oldId, UuidV7Generator.forTimestamp(millis) });
+                }
+            }
+            if (!changes.isEmpty()) {
+                self.rekeyChunk(table.name, changes);
+                job.add(table.name, changes.size());
+            }
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("UUIDv7 rekey of {} finished: {} rows scanned", table.name, scanned);
+    }
+
+    @Transactional
+    public void rekeyChunk(String table, List<UUID[]> changes) {
+        jdbcTemplate.batchUpdate("UPDATE " + table + " SET id = ? WHERE id = ?", changes, changes.size(),
+                (ps, change) -> {
+                    ps.setBytes(1, toBytes(change[1]));
+                    ps.setBytes(2, toBytes(change[0]));
+                });
+
+        if ("transactions".equals(table)) {
+            // Approved payouts keep the id of their ledger row as text
+            jdbcTemplate.batchUpdate(
+                    "UPDATE payout_requests SET transaction_id_reference = ? WHERE transaction_id_reference = ?",
+                    changes, changes.size(), (ps, change) -> {
+                        ps.setString(1, change[1].toString());
+                        ps.setString(2, change[0].toString());
+                    });
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private record RekeyTable(String name, String timestampColumn) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.enterprise.investmentanalytics.service;
 
+import com.enterprise.investmentanalytics.dto.response.BatchResultDTO;
 import com.enterprise.investmentanalytics.dto.response.WithdrawalRequestDTO;
+import com.enterprise.investmentanalytics.event.ClientDataChangedEvent;
 import com.enterprise.investmentanalytics.model.entity.Portfolio;
 import com.enterprise.investmentanalytics.model.entity.User;
 import com.enterprise.investmentanalytics.model.entity.WithdrawalRequest;
@@ -9,14 +11,19 @@ import com.enterprise.investmentanalytics.repository.PortfolioRepository;
 import com.enterprise.investmentanalytics.repository.UserRepository;
 import com.enterprise.investmentanalytics.repository.WithdrawalRequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +33,8 @@ public class WithdrawalService {
     private final UserRepository userRepository;
     private final PortfolioRepository portfolioRepository;
     private final com.enterprise.investmentanalytics.repository.TransactionRepository transactionRepository;
+    private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public WithdrawalRequestDTO createWithdrawalRequest(UUID userId, BigDecimal amount) {
@@ -64,21 +73,18 @@ public class WithdrawalService {
     }
 
     public List<WithdrawalRequestDTO> getUserWithdrawalRequests(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<WithdrawalRequest> requests = withdrawalRequestRepository.findByUserOrderByCreatedAtDesc(user);
-        return requests.stream().map(this::mapToDTO).collect(Collectors.toList());
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+        return withdrawalRequestRepository.findDTOsByUserId(userId);
     }
 
     public List<WithdrawalRequestDTO> getAllWithdrawalRequests() {
-        List<WithdrawalRequest> requests = withdrawalRequestRepository.findAllByOrderByCreatedAtDesc();
-        return requests.stream().map(this::mapToDTO).collect(Collectors.toList());
+        return withdrawalRequestRepository.findAllDTOs();
     }
 
     public List<WithdrawalRequestDTO> getWithdrawalRequestsByStatus(WithdrawalStatus status) {
-        List<WithdrawalRequest> requests = withdrawalRequestRepository.findByStatusOrderByCreatedAtDesc(status);
-        return requests.stream().map(this::mapToDTO).collect(Collectors.toList());
+        return withdrawalRequestRepository.findDTOsByStatus(status);
     }
 
     @Transactional
@@ -95,6 +101,107 @@ public class WithdrawalService {
         Portfolio portfolio = portfolioRepository.findByUserId(request.getUser().getId())
                 .orElseThrow(() -> new RuntimeException("Portfolio not found"));
 
+        com.enterprise.investmentanalytics.model.entity.Transaction transaction = applyApproval(request, portfolio,
+                adminId, paymentMode);
+        portfolioRepository.save(portfolio);
+        transactionRepository.save(transaction);
+        eventPublisher.publishEvent(ClientDataChangedEvent.of("WITHDRAWAL_APPROVED", request.getUser()));
+
+        request = withdrawalRequestRepository.save(request);
+
+        return mapToDTO(request);
+    }
+
+    @Transactional
+    public WithdrawalRequestDTO rejectWithdrawalRequest(UUID requestId, String adminId, String reason) {
+        WithdrawalRequest request = withdrawalRequestRepository.findById(requestId)
+                .orElseThrow(() -> new RuntimeException("Withdrawal request not found"));
+
+        // Validate request is pending
+        if (request.getStatus() != WithdrawalStatus.PENDING) {
+            throw new RuntimeException("Only pending requests can be rejected. Current status: " + request.getStatus());
+        }
+
+        applyRejection(request, adminId, reason);
+
+        request = withdrawalRequestRepository.save(request);
+
+        return mapToDTO(request);
+    }
+
+    /**
+     * Approves a chunk of withdrawal requests in one transaction. Each client's
+     * portfolio is loaded once and debited in submission order, so several
+     * requests of the same client are checked against the running balance.
+     */
+    @Transactional
+    public List<BatchResultDTO.ItemResult> approveWithdrawalBatch(List<UUID> requestIds, String adminId,
+            String paymentMode) {
+        List<WithdrawalRequest> loaded = withdrawalRequestRepository.findAllWithUserByIdIn(requestIds);
+        Set<UUID> userIds = new HashSet<>();
+        for (WithdrawalRequest request : loaded) {
+            userIds.add(request.getUser().getId());
+        }
+        Map<UUID, Portfolio> portfolios = new HashMap<>();
+        for (Portfolio portfolio : portfolioRepository.findByUserIdIn(userIds)) {
+            portfolios.put(portfolio.getUser().getId(), portfolio);
+        }
+
+        List<com.enterprise.investmentanalytics.model.entity.Transaction> transactions = new ArrayList<>();
+        Map<UUID, Portfolio> touched = new HashMap<>();
+        List<String> auditEntries = new ArrayList<>();
+        BatchDecisionService.Decided<WithdrawalRequest> approved = BatchDecisionService.decideEach(requestIds,
+                loaded, WithdrawalRequest::getId, "Withdrawal request not found", WithdrawalStatus.APPROVED.name(),
+                request -> {
+                    requirePending(request, "approved");
+                    Portfolio portfolio = portfolios.get(request.getUser().getId());
+                    if (portfolio == null) {
+                        throw new IllegalStateException("Portfolio not found");
+                    }
+                    transactions.add(applyApproval(request, portfolio, adminId, paymentMode));
+                    touched.put(portfolio.getId(), portfolio);
+                    auditEntries.add("Approved withdrawal request " + request.getId() + " for amount "
+                            + request.getAmount());
+                });
+
+        portfolioRepository.saveAll(touched.values());
+        if (!approved.requests().isEmpty()) {
+            eventPublisher.publishEvent(ClientDataChangedEvent.of("WITHDRAWAL_APPROVED",
+                    approved.requests().stream().map(WithdrawalRequest::getUser).toList()));
+        }
+        transactionRepository.saveAll(transactions);
+        withdrawalRequestRepository.saveAll(approved.requests());
+        auditService.logAll("APPROVE_WITHDRAWAL", "ADMIN", auditEntries);
+        return approved.results();
+    }
+
+    @Transactional
+    public List<BatchResultDTO.ItemResult> rejectWithdrawalBatch(List<UUID> requestIds, String adminId,
+            String reason) {
+        List<String> auditEntries = new ArrayList<>();
+        BatchDecisionService.Decided<WithdrawalRequest> rejected = BatchDecisionService.decideEach(requestIds,
+                withdrawalRequestRepository.findAllWithUserByIdIn(requestIds), WithdrawalRequest::getId,
+                "Withdrawal request not found", WithdrawalStatus.REJECTED.name(), request -> {
+                    requirePending(request, "rejected");
+                    applyRejection(request, adminId, reason);
+                    auditEntries.add("Rejected withdrawal request " + request.getId() + " - Reason: " + reason);
+                });
+
+        withdrawalRequestRepository.saveAll(rejected.requests());
+        auditService.logAll("REJECT_WITHDRAWAL", "ADMIN", auditEntries);
+        return rejected.results();
+    }
+
+    private static void requirePending(WithdrawalRequest request, String decision) {
+        if (request.getStatus() != WithdrawalStatus.PENDING) {
+            throw new IllegalStateException(
+                    "Only pending requests can be " + decision + ". Current status: " + request.getStatus());
+        }
+    }
+
+    // Debits the portfolio and marks the request approved; returns the unsaved ledger row
+    private com.enterprise.investmentanalytics.model.entity.Transaction applyApproval(WithdrawalRequest request,
+            Portfolio portfolio, String adminId, String paymentMode) {
         if (portfolio.getTotalValue() == null || portfolio.getTotalValue().compareTo(request.getAmount()) < 0) {
             throw new RuntimeException("Insufficient balance for withdrawal");
         }
@@ -109,48 +216,26 @@ public class WithdrawalService {
             portfolio.setTotalValue(portfolio.getTotalValue().subtract(request.getAmount()));
         }
 
-        portfolioRepository.save(portfolio);
+        // Update request status
+        request.setStatus(WithdrawalStatus.APPROVED);
+        request.setProcessedBy(adminId);
+        request.setPaymentMode(paymentMode);
+        request.setProcessedAt(LocalDateTime.now());
 
-        // Create transaction record
-        com.enterprise.investmentanalytics.model.entity.Transaction transaction = com.enterprise.investmentanalytics.model.entity.Transaction
+        return com.enterprise.investmentanalytics.model.entity.Transaction
                 .builder()
                 .user(request.getUser())
                 .type(com.enterprise.investmentanalytics.model.enums.TransactionType.WITHDRAWAL)
                 .amount(request.getAmount())
                 .description("Withdrawal approved - " + (paymentMode != null ? paymentMode : "Direct"))
                 .build();
-        transactionRepository.save(transaction);
-
-        // Update request status
-        request.setStatus(WithdrawalStatus.APPROVED);
-        request.setProcessedBy(adminId);
-        request.setPaymentMode(paymentMode);
-        request.setProcessedAt(LocalDateTime.now());
-
-        request = withdrawalRequestRepository.save(request);
-
-        return mapToDTO(request);
     }
 
-    @Transactional
-    public WithdrawalRequestDTO rejectWithdrawalRequest(UUID requestId, String adminId, String reason) {
-        WithdrawalRequest request = withdrawalRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Withdrawal request not found"));
-
-        // Validate request is pending
-        if (request.getStatus() != WithdrawalStatus.PENDING) {
-            throw new RuntimeException("Only pending requests can be rejected. Current status: " + request.getStatus());
-        }
-
-        // Update request status
+    private void applyRejection(WithdrawalRequest request, String adminId, String reason) {
         request.setStatus(WithdrawalStatus.REJECTED);
         request.setRejectionReason(reason);
         request.setProcessedBy(adminId);
         request.setProcessedAt(LocalDateTime.now());
-
-        request = withdrawalRequestRepository.save(request);
-
-        return mapToDTO(request);
     }
 
     private WithdrawalRequestDTO mapToDTO(WithdrawalRequest request) {
@@ -0,0 +1,157 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.config.Workload;
+import com.enterprise.investmentanalytics.config.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded executors for the non-interactive workloads. Each has a fixed
+ * number of threads and a bounded queue sized under app.workloads.{name};
+ * work submitted to a full queue is rejected instead of piling up. Interactive
+ * traffic runs on the servlet container's request threads.
+ *
+ * On shutdown, batch work gets app.workloads.shutdown-timeout-seconds to
+ * finish; exports are stopped at once. Depends on the entity manager factory so
+ * that JPA is still open while the batch queue drains.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class WorkloadExecutorService {
+
+    private static final List<Workload> EXECUTOR_WORKLOADS = List.of(Workload.BATCH, Workload.EXPORT);
+    private static final List<Workload> DRAINED_WORKLOADS = List.of(Workload.BATCH);
+
+    private final WorkloadRoutingDataSource workloadRoutingDataSource;
+    private final Map<Workload, ThreadPoolExecutor> executors = new EnumMap<>(Workload.class);
+    private final Map<Workload, AtomicLong> rejected = new EnumMap<>(Workload.class);
+    private final long shutdownTimeoutSeconds;
+
+    public WorkloadExecutorService(Environment environment, WorkloadRoutingDataSource workloadRoutingDataSource) {
+        this.workloadRoutingDataSource = workloadRoutingDataSource;
+        this.shutdownTimeoutSeconds = environment.getProperty("app.workloads.shutdown-timeout-seconds", Long.class,
+                30L);
+        for (Workload workload : EXECUTOR_WORKLOADS) {
+            String prefix = "app.workloads." + workload.key() + ".";
+            int threads = Math.max(1, environment.getProperty(prefix + "threads", Integer.class, 2));
+            int queueCapacity = Math.max(1, environment.getProperty(prefix + "queue-capacity", Integer.class, 100));
+            AtomicLong rejectedCount = new AtomicLong();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), workload.threadFactory(workload.key() + "-worker"),
+                    (task, pool) -> {
+                        rejectedCount.incrementAndGet();
+                        throw new IllegalStateException(
+                                "The " + workload.key() + " workload is at capacity, try again later");
+                    });
+            executors.put(workload, executor);
+            rejected.put(workload, rejectedCount);
+        }
+    }
+
+    public Future<?> submit(Workload workload, Runnable task) {
+        return executor(workload).submit(task);
+    }
+
+    // Runs the task on the workload's threads and waits, keeping the caller's response synchronous
+    public <T> T callAndWait(Workload workload, Callable<T> task) {
+        Future<T> future = executor(workload).submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for " + workload.key() + " work", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Connection pool and executor figures per workload.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Workload workload : Workload.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+
+            HikariPoolMXBean pool = workloadRoutingDataSource.getPools().get(workload).getHikariPoolMXBean();
+            Map<String, Object> connections = new LinkedHashMap<>();
+            connections.put("max", workloadRoutingDataSource.getPools().get(workload).getMaximumPoolSize());
+            if (pool != null) {
+                connections.put("active", pool.getActiveConnections());
+                connections.put("idle", pool.getIdleConnections());
+                connections.put("waiting", pool.getThreadsAwaitingConnection());
+            }
+            entry.put("connections", connections);
+
+            ThreadPoolExecutor executor = executors.get(workload);
+            if (executor != null) {
+                Map<String, Object> threads = new LinkedHashMap<>();
+                threads.put("size", executor.getMaximumPoolSize());
+                threads.put("active", executor.getActiveCount());
+                threads.put("queued", executor.getQueue().size());
+                threads.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+                threads.put("completed", executor.getCompletedTaskCount());
+                threads.put("rejected", rejected.get(workload).get());
+                entry.put("executor", threads);
+            }
+            stats.put(workload.key(), entry);
+        }
+        return stats;
+    }
+
+    private ThreadPoolExecutor executor(Workload workload) {
+        ThreadPoolExecutor executor = executors.get(workload);
+        if (executor == null) {
+            throw new IllegalArgumentException("No executor for workload " + workload.key());
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.forEach((workload, executor) -> {
+            if (DRAINED_WORKLOADS.contains(workload)) {
+                executor.shutdown();
+            } else {
+                executor.shutdownNow();
+            }
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownTimeoutSeconds);
+        for (Workload workload : DRAINED_WORKLOADS) {
+            ThreadPoolExecutor executor = executors.get(workload);
+            try {
+                executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!executor.isTerminated()) {
+                List<Runnable> dropped = executor.shutdownNow();
+                log.warn("Stopped the {} workload after {} s with {} queued tasks not run", workload.key(),
+                        shutdownTimeoutSeconds, dropped.size());
+            }
+        }
+    }
+}
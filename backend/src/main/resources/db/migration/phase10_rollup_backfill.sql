@@ -0,0 +1,39 @@
+-- Phase 10: Rollups maintained on every accrual
+-- From this release every accrual upserts its month in profit_period_rollups.
+-- This script folds the accrual rows that are still in monthly_profit_history
+-- (the open month and anything not yet compacted) into their rollups, so the
+-- rollups are complete before the application starts maintaining them.
+-- SchemaMigrationRunner applies it at boot, before this release's profit
+-- scheduler starts, and other instances of the release wait on the migration
+-- lock, so no recordAccrual upsert runs meanwhile. Instances of the previous
+-- release do not maintain rollups: stop them (or their profit scheduler) before
+-- the rollout, as accruals they write afterwards are not folded in.
+--
+-- First and last values of the month come from window functions rather than
+-- GROUP_CONCAT, which group_concat_max_len would truncate on busy months.
+
+INSERT INTO profit_period_rollups
+    (id, user_id, year, month, accrual_count, total_profit, opening_balance, closing_balance,
+     profit_percentage, profit_mode, is_prorated, first_accrual_at, last_accrual_at)
+SELECT UUID_TO_BIN(UUID(), 1), u.id, w.year, w.month, COUNT(*), SUM(w.profit_amount),
+       MAX(w.first_opening_balance), MAX(w.last_closing_balance), MAX(w.last_profit_percentage),
+       MAX(w.last_profit_mode), MAX(w.is_prorated), MIN(w.calculated_at), MAX(w.calculated_at)
+FROM (
+    SELECT h.user_id, h.year, h.month, h.profit_amount, h.is_prorated, h.calculated_at,
+           FIRST_VALUE(h.opening_balance) OVER earliest AS first_opening_balance,
+           FIRST_VALUE(h.closing_balance) OVER latest AS last_closing_balance,
+           FIRST_VALUE(h.profit_percentage) OVER latest AS last_profit_percentage,
+           FIRST_VALUE(h.profit_mode) OVER latest AS last_profit_mode
+    FROM monthly_profit_history h
+    WINDOW earliest AS (PARTITION BY h.user_id, h.year, h.month ORDER BY h.calculated_at, h.id),
+           latest AS (PARTITION BY h.user_id, h.year, h.month ORDER BY h.calculated_at DESC, h.id DESC)
+) w
+JOIN users u ON u.user_id = w.user_id
+GROUP BY u.id, w.year, w.month
+ON DUPLICATE KEY UPDATE
+    accrual_count = accrual_count + VALUES(accrual_count),
+    total_profit = total_profit + VALUES(total_profit),
+    closing_balance = VALUES(closing_balance),
+    profit_percentage = VALUES(profit_percentage),
+    profit_mode = VALUES(profit_mode),
+    last_accrual_at = GREATEST(last_accrual_at, VALUES(last_accrual_at));
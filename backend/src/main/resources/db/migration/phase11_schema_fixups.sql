@@ -0,0 +1,103 @@
+-- Phase 11: One-time schema fixups
+-- These statements used to be re-run on every boot by DatabaseSchemaFixer, each
+-- one ignoring its own failure. They now run exactly once through the migration
+-- runner; index and foreign key drops and column changes are guarded so the
+-- step succeeds whatever state a database is in. A column that already has its
+-- target type and nullability is left alone.
+--
+-- idx_transactions_user_id is no longer recreated: phase 8 replaced it with
+-- idx_transactions_user_created.
+
+SET SQL_SAFE_UPDATES = 0;
+
+DROP PROCEDURE IF EXISTS DropIndexIfExists;
+DROP PROCEDURE IF EXISTS DropForeignKeyIfExists;
+DROP PROCEDURE IF EXISTS ModifyColumnIfDifferent;
+
+DELIMITER //
+
+CREATE PROCEDURE DropIndexIfExists(IN tableName VARCHAR(64), IN indexName VARCHAR(64))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = tableName AND index_name = indexName) THEN
+        SET @query = CONCAT('ALTER TABLE ', tableName, ' DROP INDEX ', indexName);
+        PREPARE stmt FROM @query;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+CREATE PROCEDURE DropForeignKeyIfExists(IN tableName VARCHAR(64), IN fkName VARCHAR(64))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.table_constraints
+               WHERE constraint_schema = DATABASE() AND table_name = tableName
+                 AND constraint_name = fkName AND constraint_type = 'FOREIGN KEY') THEN
+        SET @query = CONCAT('ALTER TABLE ', tableName, ' DROP FOREIGN KEY ', fkName);
+        PREPARE stmt FROM @query;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+-- columnType as information_schema.columns.column_type reports it, e.g. varchar(20)
+CREATE PROCEDURE ModifyColumnIfDifferent(IN tableName VARCHAR(64), IN columnName VARCHAR(64),
+                                         IN columnType VARCHAR(255), IN notNull BOOLEAN)
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = tableName AND column_name = columnName
+                 AND (LOWER(column_type) <> LOWER(columnType)
+                      OR is_nullable <> IF(notNull, 'NO', 'YES'))) THEN
+        SET @query = CONCAT('ALTER TABLE ', tableName, ' MODIFY COLUMN ', columnName, ' ', columnType,
+                            IF(notNull, ' NOT NULL', ' NULL'));
+        PREPARE stmt FROM @query;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- 1. Orphaned rows (fixes foreign key constraint failures)
+-- monthly_profit_history references the business id users.user_id, not users.id
+DELETE FROM portfolios WHERE user_id NOT IN (SELECT id FROM users);
+DELETE FROM transactions WHERE user_id NOT IN (SELECT id FROM users);
+DELETE FROM monthly_profit_history WHERE user_id NOT IN (SELECT user_id FROM users WHERE user_id IS NOT NULL);
+DELETE FROM deposit_requests WHERE user_id NOT IN (SELECT id FROM users);
+
+-- 2. Unique keys that blocked high-frequency accruals and per-user ledgers
+CALL DropIndexIfExists('monthly_profit_history', 'UKpk5ocieho0al40rnwbuq63ry');
+CALL DropIndexIfExists('monthly_profit_history', 'UKpk5ocieho0al40rnwbuq63ry0');
+CALL DropIndexIfExists('monthly_profit_history', 'user_id_UNIQUE');
+CALL DropIndexIfExists('monthly_profit_history', 'uk_monthly_profit_user_month_year');
+CALL DropIndexIfExists('transactions', 'user_id_UNIQUE');
+
+-- 3. Column types
+CALL ModifyColumnIfDifferent('transactions', 'type',
+    'enum(''CREDIT'',''DEBIT'',''PROFIT'',''PAYOUT'',''DEPOSIT'',''WITHDRAWAL'')', FALSE);
+CALL ModifyColumnIfDifferent('users', 'user_id', 'varchar(20)', FALSE);
+CALL ModifyColumnIfDifferent('users', 'status', 'varchar(50)', TRUE);
+CALL ModifyColumnIfDifferent('deposit_requests', 'status', 'varchar(20)', TRUE);
+CALL ModifyColumnIfDifferent('withdrawal_requests', 'status', 'varchar(20)', TRUE);
+CALL ModifyColumnIfDifferent('payout_requests', 'status', 'varchar(20)', TRUE);
+
+-- 4. Legacy foreign keys on the user columns retyped below
+CALL DropForeignKeyIfExists('portfolios', 'FK9xt36kgm9cxsf79r2me0d9f6u');
+CALL DropForeignKeyIfExists('transactions', 'FKqwv7rmvc8va8rep7piikrojds');
+CALL DropForeignKeyIfExists('monthly_profit_history', 'FKnhe6u818qrp1q0iw27racb98j');
+CALL DropForeignKeyIfExists('deposit_requests', 'fk_deposit_user');
+
+-- 5. User references: binary UUIDs, except the readable id on profit history
+CALL ModifyColumnIfDifferent('portfolios', 'user_id', 'binary(16)', TRUE);
+CALL ModifyColumnIfDifferent('transactions', 'user_id', 'binary(16)', TRUE);
+CALL ModifyColumnIfDifferent('deposit_requests', 'user_id', 'binary(16)', TRUE);
+CALL ModifyColumnIfDifferent('monthly_profit_history', 'user_id', 'varchar(20)', TRUE);
+
+-- 6. COMPOUNDING clients need the 3.6% monthly rate (52% annual through compounding)
+UPDATE portfolios SET profit_percentage = 3.6
+WHERE profit_mode = 'COMPOUNDING' AND (profit_percentage IS NULL OR profit_percentage = 0);
+
+DROP PROCEDURE DropIndexIfExists;
+DROP PROCEDURE DropForeignKeyIfExists;
+DROP PROCEDURE ModifyColumnIfDifferent;
+
+SET SQL_SAFE_UPDATES = 1;
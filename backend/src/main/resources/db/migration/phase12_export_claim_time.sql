@@ -0,0 +1,10 @@
+-- Phase 12: Export claim time
+-- An export that dies between claiming its rows and stamping them exported
+-- leaves them claimed forever. The claim time lets the next export find such
+-- stale batches and recover them (see BankTransferExportService).
+
+ALTER TABLE withdrawal_requests
+    ADD COLUMN export_claimed_at DATETIME(6) NULL;
+
+ALTER TABLE payout_requests
+    ADD COLUMN export_claimed_at DATETIME(6) NULL;
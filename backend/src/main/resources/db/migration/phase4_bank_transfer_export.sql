@@ -0,0 +1,17 @@
+-- Phase 4: Bank transfer export tracking
+-- Approved withdrawals and payouts are claimed by an export batch, written to a
+-- bank transfer file and then stamped as exported.
+
+ALTER TABLE withdrawal_requests
+    ADD COLUMN export_batch_id VARCHAR(36) NULL,
+    ADD COLUMN exported_at DATETIME(6) NULL,
+    ADD INDEX idx_withdrawal_export (status, export_batch_id);
+
+ALTER TABLE payout_requests
+    ADD COLUMN export_batch_id VARCHAR(36) NULL,
+    ADD COLUMN exported_at DATETIME(6) NULL,
+    ADD INDEX idx_payout_export (status, export_batch_id);
+
+-- Requests approved before this feature were already paid out by hand
+UPDATE withdrawal_requests SET export_batch_id = 'LEGACY', exported_at = NOW(6) WHERE status = 'APPROVED';
+UPDATE payout_requests SET export_batch_id = 'LEGACY', exported_at = NOW(6) WHERE status = 'APPROVED';
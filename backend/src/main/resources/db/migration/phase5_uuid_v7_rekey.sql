@@ -0,0 +1,10 @@
+-- Phase 5: Time-ordered (UUIDv7) primary keys
+-- New rows get UUIDv7 ids from the application. Existing rows of the
+-- insert-heavy leaf tables (transactions, monthly_profit_history, audit_logs)
+-- are rekeyed online by the maintenance job:
+--   POST /api/admin/maintenance/uuid-rekey
+-- The job rewrites payout_requests.transaction_id_reference as it rekeys
+-- transactions; this index keeps that lookup from scanning the table.
+
+ALTER TABLE payout_requests
+    ADD INDEX idx_payout_transaction_ref (transaction_id_reference);
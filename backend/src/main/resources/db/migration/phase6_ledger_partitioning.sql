@@ -0,0 +1,112 @@
+-- Phase 6: Monthly range partitioning and archive tier for the ledger
+-- transactions is partitioned by created_at month and monthly_profit_history by
+-- (year, month). Partitions are named pYYYYMM; p_future catches everything past
+-- the newest month and is split ahead of time by PartitionMaintenanceService.
+--
+-- Closed months older than the hot window are folded into ledger_period_summaries,
+-- copied to the *_archive tables and their partitions dropped. The
+-- LEDGER_HOT_FROM config value marks the first month still in the hot tables.
+--
+-- MySQL requires every unique key of a partitioned table to include the
+-- partitioning columns and does not allow foreign keys on partitioned tables.
+
+SET SQL_SAFE_UPDATES = 0;
+
+DROP PROCEDURE IF EXISTS DropAllFKs;
+DROP PROCEDURE IF EXISTS PartitionByMonth;
+
+DELIMITER //
+
+CREATE PROCEDURE DropAllFKs(IN tableName VARCHAR(64))
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE fkName VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT constraint_name FROM information_schema.table_constraints
+        WHERE table_name = tableName AND constraint_type = 'FOREIGN KEY' AND constraint_schema = DATABASE();
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO fkName;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @query = CONCAT('ALTER TABLE ', tableName, ' DROP FOREIGN KEY ', fkName);
+        PREPARE stmt FROM @query;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fks;
+END //
+
+-- Builds one partition per month from firstMonth up to three months ahead
+CREATE PROCEDURE PartitionByMonth(IN tableName VARCHAR(64), IN byColumns BOOLEAN, IN firstMonth DATE)
+BEGIN
+    DECLARE m DATE DEFAULT DATE_FORMAT(firstMonth, '%Y-%m-01');
+    DECLARE stopAt DATE DEFAULT DATE_ADD(DATE_FORMAT(CURDATE(), '%Y-%m-01'), INTERVAL 4 MONTH);
+    DECLARE parts TEXT DEFAULT '';
+    DECLARE nextMonth DATE;
+
+    IF (SELECT COUNT(*) FROM information_schema.partitions
+        WHERE table_name = tableName AND table_schema = DATABASE() AND partition_name IS NOT NULL) = 0 THEN
+
+        WHILE m < stopAt DO
+            SET nextMonth = DATE_ADD(m, INTERVAL 1 MONTH);
+            IF byColumns THEN
+                SET parts = CONCAT(parts, 'PARTITION p', DATE_FORMAT(m, '%Y%m'), ' VALUES LESS THAN (',
+                        YEAR(nextMonth), ', ', MONTH(nextMonth), '), ');
+            ELSE
+                SET parts = CONCAT(parts, 'PARTITION p', DATE_FORMAT(m, '%Y%m'), ' VALUES LESS THAN (TO_DAYS(''',
+                        nextMonth, ''')), ');
+            END IF;
+            SET m = nextMonth;
+        END WHILE;
+
+        IF byColumns THEN
+            SET @query = CONCAT('ALTER TABLE ', tableName, ' PARTITION BY RANGE COLUMNS (year, month) (', parts,
+                    'PARTITION p_future VALUES LESS THAN (MAXVALUE, MAXVALUE))');
+        ELSE
+            SET @query = CONCAT('ALTER TABLE ', tableName, ' PARTITION BY RANGE (TO_DAYS(created_at)) (', parts,
+                    'PARTITION p_future VALUES LESS THAN MAXVALUE)');
+        END IF;
+        PREPARE stmt FROM @query;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- 1. Archive tables (same columns and indexes, never partitioned)
+CREATE TABLE IF NOT EXISTS transactions_archive LIKE transactions;
+CREATE TABLE IF NOT EXISTS monthly_profit_history_archive LIKE monthly_profit_history;
+
+CREATE TABLE IF NOT EXISTS ledger_period_summaries (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uq_ledger_summary_period (user_id, year, month, type)
+);
+
+-- 2. transactions: drop FKs, widen the primary key, partition by month
+CALL DropAllFKs('transactions');
+UPDATE transactions SET created_at = NOW(6) WHERE created_at IS NULL;
+ALTER TABLE transactions MODIFY COLUMN created_at DATETIME(6) NOT NULL;
+ALTER TABLE transactions DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+CALL PartitionByMonth('transactions', FALSE, (SELECT COALESCE(MIN(created_at), CURDATE()) FROM transactions));
+
+-- 3. monthly_profit_history: same treatment, partitioned by its period columns
+CALL DropAllFKs('monthly_profit_history');
+ALTER TABLE monthly_profit_history DROP PRIMARY KEY, ADD PRIMARY KEY (id, year, month);
+CALL PartitionByMonth('monthly_profit_history', TRUE,
+        (SELECT COALESCE(MIN(STR_TO_DATE(CONCAT(year, '-', month, '-01'), '%Y-%m-%d')), CURDATE())
+         FROM monthly_profit_history));
+
+DROP PROCEDURE DropAllFKs;
+DROP PROCEDURE PartitionByMonth;
@@ -0,0 +1,49 @@
+-- Phase 7: Monthly profit rollups
+-- One row per client and profit cycle month replaces the per-tick
+-- monthly_profit_history rows once the month is closed. ProfitRollupService
+-- compacts closed months in the live tables; this script backfills rollups for
+-- months that phase 6 already moved to monthly_profit_history_archive.
+
+CREATE TABLE IF NOT EXISTS profit_period_rollups (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    accrual_count BIGINT NOT NULL,
+    total_profit DECIMAL(19, 4) NOT NULL,
+    opening_balance DECIMAL(19, 4) NOT NULL,
+    closing_balance DECIMAL(19, 4) NOT NULL,
+    profit_percentage DECIMAL(5, 2),
+    profit_mode VARCHAR(255),
+    is_prorated BIT(1) NOT NULL DEFAULT 0,
+    first_accrual_at DATETIME(6),
+    last_accrual_at DATETIME(6),
+    compacted_at DATETIME(6),
+    UNIQUE KEY uq_profit_rollup_period (user_id, year, month)
+);
+
+-- Lets the compaction job find the oldest uncompacted cycle month without a scan
+ALTER TABLE monthly_profit_history
+    ADD INDEX idx_history_period (year, month);
+
+-- Backfill from already archived history (history.user_id holds the business id).
+-- First and last values of the month come from window functions; GROUP_CONCAT
+-- would be cut at group_concat_max_len on months with many accruals.
+INSERT IGNORE INTO profit_period_rollups
+    (id, user_id, year, month, accrual_count, total_profit, opening_balance, closing_balance,
+     profit_percentage, profit_mode, is_prorated, first_accrual_at, last_accrual_at, compacted_at)
+SELECT UUID_TO_BIN(UUID(), 1), u.id, w.year, w.month, COUNT(*), SUM(w.profit_amount),
+       MAX(w.first_opening_balance), MAX(w.last_closing_balance), MAX(w.last_profit_percentage),
+       MAX(w.last_profit_mode), MAX(w.is_prorated), MIN(w.calculated_at), MAX(w.calculated_at), NOW(6)
+FROM (
+    SELECT a.user_id, a.year, a.month, a.profit_amount, a.is_prorated, a.calculated_at,
+           FIRST_VALUE(a.opening_balance) OVER earliest AS first_opening_balance,
+           FIRST_VALUE(a.closing_balance) OVER latest AS last_closing_balance,
+           FIRST_VALUE(a.profit_percentage) OVER latest AS last_profit_percentage,
+           FIRST_VALUE(a.profit_mode) OVER latest AS last_profit_mode
+    FROM monthly_profit_history_archive a
+    WINDOW earliest AS (PARTITION BY a.user_id, a.year, a.month ORDER BY a.calculated_at, a.id),
+           latest AS (PARTITION BY a.user_id, a.year, a.month ORDER BY a.calculated_at DESC, a.id DESC)
+) w
+JOIN users u ON u.user_id = w.user_id
+GROUP BY u.id, w.year, w.month;
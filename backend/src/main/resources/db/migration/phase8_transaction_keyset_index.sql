@@ -0,0 +1,11 @@
+-- Phase 8: Index for keyset-paginated transaction listings
+-- Paged and top-N listings filter by user and walk created_at newest first.
+-- (user_id, created_at) serves both and makes the single-column user index redundant.
+
+ALTER TABLE transactions
+    ADD INDEX idx_transactions_user_created (user_id, created_at),
+    DROP INDEX idx_transactions_user_id;
+
+ALTER TABLE transactions_archive
+    ADD INDEX idx_transactions_user_created (user_id, created_at),
+    DROP INDEX idx_transactions_user_id;
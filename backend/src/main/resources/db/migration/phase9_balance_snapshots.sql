@@ -0,0 +1,16 @@
+-- Phase 9: End-of-day balance snapshots
+-- BalanceHistoryService appends one row per portfolio each day after the
+-- accruals; dashboards read a user's series with one range scan of
+-- idx_balance_snapshot_series and downsample it to the requested point budget.
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BINARY(16) NOT NULL,
+    snapshot_date DATE NOT NULL,
+    total_invested DECIMAL(19, 4) NOT NULL,
+    available_profit DECIMAL(19, 4) NOT NULL,
+    balance DECIMAL(19, 4) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uq_balance_snapshot_day (user_id, snapshot_date),
+    KEY idx_balance_snapshot_series (user_id, snapshot_date, balance)
+);
@@ -0,0 +1,139 @@
+package com.enterprise.investmentanalytics.controller;
+
+import com.enterprise.investmentanalytics.config.MaxQueries;
+import com.enterprise.investmentanalytics.model.entity.Portfolio;
+import com.enterprise.investmentanalytics.model.entity.User;
+import com.enterprise.investmentanalytics.model.enums.Role;
+import com.enterprise.investmentanalytics.model.enums.UserStatus;
+import com.enterprise.investmentanalytics.repository.PortfolioRepository;
+import com.enterprise.investmentanalytics.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the summary endpoints against H2 with app.sql-budget.fail-on-exceed, so
+ * an endpoint whose statement count grows past its @MaxQueries budget (an N+1
+ * over the seeded clients, typically) fails here instead of in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(AdminSummaryQueryBudgetTest.BudgetProbeController.class)
+@WithMockUser(roles = "ADMIN")
+class AdminSummaryQueryBudgetTest {
+
+    private static final int CLIENTS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    private UUID mediatorId;
+
+    @BeforeEach
+    void seedClients() {
+        User mediator = userRepository.findByEmail("mediator@budget.test").orElse(null);
+        if (mediator == null) {
+            mediator = userRepository.save(user("mediator@budget.test", Role.MEDIATOR, null));
+            for (int i = 0; i < CLIENTS; i++) {
+                User client = userRepository.save(user("client" + i + "@budget.test", Role.CLIENT, mediator));
+                portfolioRepository.save(Portfolio.builder()
+                        .user(client)
+                        .totalValue(new BigDecimal("1000.00"))
+                        .totalInvested(new BigDecimal("1000.00"))
+                        .build());
+            }
+            userRepository.save(user("pending@budget.test", Role.CLIENT, null));
+        }
+        mediatorId = mediator.getId();
+    }
+
+    @Test
+    void clientSummariesStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/admin/clients"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CLIENTS + 1));
+    }
+
+    @Test
+    void inactiveClientSummariesStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/admin/clients/inactive"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void mediatorClientSummariesStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/admin/mediator/{id}/clients", mediatorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CLIENTS));
+    }
+
+    @Test
+    void userListsStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/admin/users"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/pending-users"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void portfolioListStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/portfolio/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CLIENTS));
+    }
+
+    @Test
+    void overBudgetEndpointFailsTheRequest() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/admin/budget-probe")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("over its budget of 1");
+    }
+
+    private static User user(String email, Role role, User mediator) {
+        return User.builder()
+                .name(email)
+                .email(email)
+                .password("secret")
+                .role(role)
+                .status(mediator != null || role == Role.MEDIATOR ? UserStatus.ACTIVE : UserStatus.PENDING_APPROVAL)
+                .mediator(mediator)
+                .build();
+    }
+
+    // Two statements against a budget of one
+    @RestController
+    static class BudgetProbeController {
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @GetMapping("/api/admin/budget-probe")
+        @MaxQueries(1)
+        long probe() {
+            return userRepository.count() + userRepository.count();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.projection.BalancePoint;
+import com.enterprise.investmentanalytics.exception.BadRequestException;
+import com.enterprise.investmentanalytics.repository.BalanceSnapshotRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BalanceHistoryServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void seriesWithinBudgetIsReturnedUnchanged() {
+        List<BalancePoint> series = series(new double[] { 1, 2, 3, 4, 5 });
+
+        assertThat(BalanceHistoryService.downsample(series, 5)).isSameAs(series);
+        assertThat(BalanceHistoryService.downsample(series, 10)).isSameAs(series);
+    }
+
+    @Test
+    void downsampleKeepsEndpointsAndBudget() {
+        double[] balances = new double[365];
+        for (int i = 0; i < balances.length; i++) {
+            balances[i] = 1000 + Math.sin(i / 10.0) * 100;
+        }
+        List<BalancePoint> series = series(balances);
+
+        List<BalancePoint> sampled = BalanceHistoryService.downsample(series, 50);
+
+        assertThat(sampled).hasSize(50);
+        assertThat(sampled.get(0)).isSameAs(series.get(0));
+        assertThat(sampled.get(49)).isSameAs(series.get(364));
+        for (int i = 1; i < sampled.size(); i++) {
+            assertThat(sampled.get(i).getDate()).isAfter(sampled.get(i - 1).getDate());
+        }
+    }
+
+    @Test
+    void downsampleKeepsASpikeOnAFlatSeries() {
+        double[] balances = new double[100];
+        Arrays.fill(balances, 500);
+        balances[42] = 5000;
+        List<BalancePoint> series = series(balances);
+
+        List<BalancePoint> sampled = BalanceHistoryService.downsample(series, 10);
+
+        assertThat(sampled).hasSize(10);
+        assertThat(sampled).contains(series.get(42));
+    }
+
+    @Test
+    void snapshotOfAnotherDayIsRejected() {
+        BalanceSnapshotRepository repository = mock(BalanceSnapshotRepository.class);
+        BalanceHistoryService service = new BalanceHistoryService(repository, mock(ScheduledJobService.class));
+
+        assertThatThrownBy(() -> service.takeSnapshot(LocalDate.now().minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+        verify(repository, never()).snapshotAll(any());
+    }
+
+    private static List<BalancePoint> series(double[] balances) {
+        List<BalancePoint> points = new ArrayList<>(balances.length);
+        for (int i = 0; i < balances.length; i++) {
+            points.add(new BalancePoint(START.plusDays(i), BigDecimal.valueOf(balances[i])));
+        }
+        return points;
+    }
+}
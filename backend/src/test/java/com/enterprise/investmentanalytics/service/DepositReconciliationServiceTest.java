@@ -0,0 +1,117 @@
+package com.enterprise.investmentanalytics.service;
+
+import com.enterprise.investmentanalytics.dto.response.DepositReconciliationDTO;
+import com.enterprise.investmentanalytics.model.entity.DepositRequest;
+import com.enterprise.investmentanalytics.model.entity.User;
+import com.enterprise.investmentanalytics.model.enums.RequestStatus;
+import com.enterprise.investmentanalytics.repository.DepositRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DepositReconciliationServiceTest {
+
+    private final DepositRequestRepository depositRequestRepository = mock(DepositRequestRepository.class);
+    private final DepositReconciliationService service = new DepositReconciliationService(depositRequestRepository,
+            mock(BatchDecisionService.class));
+
+    @Test
+    void userIdPrefixOfAnotherClientDoesNotMatch() {
+        DepositRequest shortId = pending("SM001", "5000.00", null);
+        DepositRequest longId = pending("SM0012", "5000.00", null);
+        when(depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING)).thenReturn(List.of(shortId, longId));
+
+        DepositReconciliationDTO result = reconcile("""
+                Date,Description,Credit
+                2026-10-01,NEFT SM0012 deposit,5000.00
+                """);
+
+        assertThat(result.getMatched()).hasSize(1);
+        assertThat(result.getMatched().get(0).getDepositRequestIds()).containsExactly(longId.getId());
+        assertThat(result.getMatched().get(0).getUserId()).isEqualTo("SM0012");
+    }
+
+    @Test
+    void userIdInsideALongerTokenIsNoReference() {
+        when(depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING))
+                .thenReturn(List.of(pending("SM001", "5000.00", null)));
+
+        DepositReconciliationDTO result = reconcile("""
+                Date,Description,Credit
+                2026-10-01,IMPS XSM001/ref,5000.00
+                """);
+
+        assertThat(result.getMatched()).isEmpty();
+        assertThat(result.getAmbiguous()).hasSize(1);
+    }
+
+    @Test
+    void userIdSeparatedByPunctuationMatches() {
+        DepositRequest request = pending("SM001", "5000.00", null);
+        when(depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING)).thenReturn(List.of(request));
+
+        DepositReconciliationDTO result = reconcile("""
+                Date,Description,Credit
+                2026-10-01,UPI/SM001/transfer,5000.00
+                """);
+
+        assertThat(result.getMatched()).hasSize(1);
+        assertThat(result.getMatched().get(0).getDepositRequestIds()).containsExactly(request.getId());
+    }
+
+    @Test
+    void noteReferenceMustBeAWholeToken() {
+        DepositRequest request = pending(null, "2500.00", "REF77");
+        when(depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING)).thenReturn(List.of(request));
+
+        DepositReconciliationDTO result = reconcile("""
+                Date,Narration,Credit
+                2026-10-01,NEFT REF771 from client,2500.00
+                2026-10-02,NEFT REF77 from client,2500.00
+                """);
+
+        assertThat(result.getMatched()).hasSize(1);
+        assertThat(result.getMatched().get(0).getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void debitLinesOfAnIndicatorStatementAreSkipped() {
+        DepositRequest request = pending("SM001", "5000.00", null);
+        when(depositRequestRepository.findByStatusWithUser(RequestStatus.PENDING)).thenReturn(List.of(request));
+
+        DepositReconciliationDTO result = reconcile("""
+                Date,Description,Amount,Dr/Cr
+                2026-10-01,Payout SM001,5000.00,DR
+                2026-10-01,Unknown,100.00,
+                2026-10-02,NEFT SM001,5000.00,CR
+                """);
+
+        assertThat(result.getCreditLines()).isEqualTo(1);
+        assertThat(result.getMatched()).hasSize(1);
+        assertThat(result.getMatched().get(0).getLineNumber()).isEqualTo(4);
+    }
+
+    private DepositReconciliationDTO reconcile(String csv) {
+        return service.reconcile(new MockMultipartFile("file", "statement.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8)), false, null);
+    }
+
+    private static DepositRequest pending(String userId, String amount, String note) {
+        User user = User.builder().id(UUID.randomUUID()).userId(userId).build();
+        return DepositRequest.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .amount(new BigDecimal(amount))
+                .userNote(note)
+                .status(RequestStatus.PENDING)
+                .build();
+    }
+}